@@ -0,0 +1,81 @@
+package com.comp2042.model.board;
+
+import com.comp2042.config.GameConfig;
+import com.comp2042.model.brick.BrickShape;
+import com.comp2042.model.brick.RandomBrickGenerator;
+import com.comp2042.model.brick.ShapeRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks forking a board: a deep matrix copy against a copy-on-write
+ * snapshot, and placing a brick on each.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardSnapshotBenchmark {
+
+    private static final long SEED = 42;
+    private static final int SPAWN_ROW = 2;
+
+    @Param
+    private BoardState state;
+
+    private SimpleBoard board;
+    private int[][] matrix;
+    private BoardSnapshot snapshot;
+    private BrickShape shape;
+    private int x;
+    private int y;
+
+    @Setup
+    public void setUp() {
+        matrix = state.createMatrix();
+        board = new SimpleBoard(GameConfig.BOARD_WIDTH, GameConfig.BOARD_HEIGHT,
+                new RandomBrickGenerator(SEED), () -> SPAWN_ROW);
+        board.loadBoardMatrix(matrix);
+        snapshot = board.snapshot();
+        shape = ShapeRegistry.getShape(ShapeRegistry.T_BRICK, 0);
+        x = GameConfig.TETROMINO_START_X;
+        y = 0;
+        while (!snapshot.intersects(shape, x, y + 1)) {
+            y++;
+        }
+    }
+
+    @Benchmark
+    public int[][] copyMatrix() {
+        return MatrixOperations.copy(matrix);
+    }
+
+    @Benchmark
+    public BoardSnapshot snapshot() {
+        return board.snapshot();
+    }
+
+    @Benchmark
+    public int[][] mergeCopy() {
+        return MatrixOperations.merge(matrix, shape, x, y);
+    }
+
+    @Benchmark
+    public BoardSnapshot placeOnSnapshot() {
+        return snapshot.place(shape, x, y);
+    }
+}
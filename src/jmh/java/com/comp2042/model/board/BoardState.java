@@ -0,0 +1,40 @@
+package com.comp2042.model.board;
+
+import com.comp2042.config.GameConfig;
+
+/**
+ * Board fill levels used as a benchmark parameter.
+ * Filled rows have one gap each so they do not clear, except the bottom row,
+ * which is full so that row clearing has work to do.
+ */
+public enum BoardState {
+    EMPTY(0),
+    HALF_FULL(GameConfig.BOARD_WIDTH / 2),
+    NEAR_TOPOUT(GameConfig.BOARD_WIDTH - 4);
+
+    private final int filledRows;
+
+    BoardState(int filledRows) {
+        this.filledRows = filledRows;
+    }
+
+    /**
+     * Creates a board matrix at this fill level.
+     *
+     * @return A new matrix, indexed as [row][column].
+     */
+    public int[][] createMatrix() {
+        int rows = GameConfig.BOARD_WIDTH;
+        int columns = GameConfig.BOARD_HEIGHT;
+        int[][] matrix = new int[rows][columns];
+        for (int row = rows - filledRows; row < rows; row++) {
+            int gap = row == rows - 1 ? -1 : (row * 3) % columns;
+            for (int col = 0; col < columns; col++) {
+                if (col != gap) {
+                    matrix[row][col] = (row + col) % 7 + 1;
+                }
+            }
+        }
+        return matrix;
+    }
+}
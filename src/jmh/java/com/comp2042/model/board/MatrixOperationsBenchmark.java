@@ -0,0 +1,93 @@
+package com.comp2042.model.board;
+
+import com.comp2042.config.GameConfig;
+import com.comp2042.model.brick.BrickShape;
+import com.comp2042.model.brick.ShapeRegistry;
+import com.comp2042.model.score.ClearRow;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the board matrix operations.
+ * The brick is a T placed at its landing row, so collision checks visit every
+ * cell instead of stopping at the first overlap.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixOperationsBenchmark {
+
+    @Param
+    private BoardState state;
+
+    private int[][] matrix;
+    private int[][] scratch;
+    private int[] clearedRows;
+    private int[][] brick;
+    private BrickShape shape;
+    private int x;
+    private int y;
+
+    @Setup
+    public void setUp() {
+        matrix = state.createMatrix();
+        shape = ShapeRegistry.getShape(ShapeRegistry.T_BRICK, 0);
+        brick = shape.toMatrix();
+        scratch = state.createMatrix();
+        clearedRows = new int[matrix.length];
+        x = GameConfig.TETROMINO_START_X;
+        y = 0;
+        while (!MatrixOperations.intersect(matrix, shape, x, y + 1)) {
+            y++;
+        }
+    }
+
+    @Benchmark
+    public boolean intersectMatrix() {
+        return MatrixOperations.intersect(matrix, brick, x, y);
+    }
+
+    @Benchmark
+    public boolean intersectShape() {
+        return MatrixOperations.intersect(matrix, shape, x, y);
+    }
+
+    @Benchmark
+    public int[][] mergeShape() {
+        return MatrixOperations.merge(matrix, shape, x, y);
+    }
+
+    @Benchmark
+    public ClearRow checkRemoving() {
+        return MatrixOperations.checkRemoving(matrix);
+    }
+
+    // Includes refilling the scratch board, which costs about as much as copy().
+    @Benchmark
+    public int clearFullRows() {
+        for (int row = 0; row < matrix.length; row++) {
+            System.arraycopy(matrix[row], 0, scratch[row], 0, matrix[row].length);
+        }
+        return MatrixOperations.clearFullRows(scratch, clearedRows);
+    }
+
+    @Benchmark
+    public int[][] copy() {
+        return MatrixOperations.copy(matrix);
+    }
+}
@@ -0,0 +1,82 @@
+package com.comp2042.model.board;
+
+import com.comp2042.config.GameConfig;
+import com.comp2042.model.brick.RandomBrickGenerator;
+import com.comp2042.model.data.ViewData;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the per-frame queries of SimpleBoard.
+ * The brick sequence is seeded, so every run measures the same piece.
+ * The overhang board has a roof over the spawned brick, so its ghost
+ * position misses the cached surface landing row and walks down cell by
+ * cell, as every ghost lookup did before the column profile.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleBoardBenchmark {
+
+    private static final long SEED = 42;
+    private static final int SPAWN_ROW = 2;
+
+    @Param
+    private BoardState state;
+
+    private SimpleBoard board;
+    private SimpleBoard overhangBoard;
+
+    @Setup
+    public void setUp() {
+        board = new SimpleBoard(GameConfig.BOARD_WIDTH, GameConfig.BOARD_HEIGHT,
+                new RandomBrickGenerator(SEED), () -> SPAWN_ROW);
+        board.loadBoardMatrix(state.createMatrix());
+        board.createNewBrick();
+
+        int[][] matrix = state.createMatrix();
+        // A roof with one gap just above the spawn row, so no row is cleared
+        for (int col = 0; col < GameConfig.BOARD_HEIGHT - 1; col++) {
+            matrix[SPAWN_ROW - 1][col] = 1;
+        }
+        overhangBoard = new SimpleBoard(GameConfig.BOARD_WIDTH, GameConfig.BOARD_HEIGHT,
+                new RandomBrickGenerator(SEED), () -> SPAWN_ROW);
+        overhangBoard.loadBoardMatrix(matrix);
+        overhangBoard.createNewBrick();
+    }
+
+    @Benchmark
+    public int calculateGhostPosition() {
+        return board.calculateGhostPosition();
+    }
+
+    @Benchmark
+    public int calculateGhostPositionUnderOverhang() {
+        return overhangBoard.calculateGhostPosition();
+    }
+
+    @Benchmark
+    public ViewData getViewData() {
+        return board.getViewData();
+    }
+
+    @Benchmark
+    public boolean canMoveDown() {
+        return board.canMoveDown();
+    }
+}
@@ -0,0 +1,70 @@
+package com.comp2042.ai;
+
+import com.comp2042.config.GameConfig;
+import com.comp2042.input.EventSource;
+import com.comp2042.input.EventType;
+import com.comp2042.input.InputEventListener;
+import com.comp2042.input.MoveEvent;
+import com.comp2042.model.board.Board;
+import com.comp2042.model.brick.BrickShape;
+import com.comp2042.model.data.ViewData;
+
+/**
+ * Computer player that drives an {@link InputEventListener}.
+ * For each brick it searches the best placement and sends the events that
+ * reach it, tagged with {@link EventSource#AI}: the rotations, the sideways
+ * moves, then a fast drop. A whole brick is played per call, so pieces can
+ * be placed far faster than a person could.
+ */
+public class AiDriver {
+
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.AI);
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.AI);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.AI);
+    private static final MoveEvent FAST_DROP = new MoveEvent(EventType.FAST_DROP, EventSource.AI);
+
+    private final PlacementSearch search;
+
+    /**
+     * Constructs a new AiDriver.
+     *
+     * @param search The placement search.
+     */
+    public AiDriver(PlacementSearch search) {
+        this.search = search;
+    }
+
+    /**
+     * Plays the current brick of a board.
+     * The next brick is assumed to spawn in the start column, at the row the
+     * current brick is in now.
+     *
+     * @param listener Receives the events, usually the engine of the board.
+     * @param board    The board.
+     * @return The placement played, or null if the brick could not be placed
+     *         and was dropped where it is.
+     */
+    public Placement playPiece(InputEventListener listener, Board board) {
+        // The view data is shared and updated by every event, so read it first
+        ViewData viewData = board.getViewData();
+        BrickShape current = viewData.getBrickShape();
+        int x = viewData.getxPosition();
+        int y = viewData.getyPosition();
+        Placement placement = search.findBest(SearchBoard.of(board.getBoardView()), current, x, y,
+                viewData.getNextBrickShape(), GameConfig.TETROMINO_START_X, y);
+
+        if (placement != null) {
+            for (int i = 0; i < placement.getRotations(); i++) {
+                listener.onRotateEvent(ROTATE);
+            }
+            for (int col = x; col > placement.getX(); col--) {
+                listener.onLeftEvent(LEFT);
+            }
+            for (int col = x; col < placement.getX(); col++) {
+                listener.onRightEvent(RIGHT);
+            }
+        }
+        listener.onFastDropEvent(FAST_DROP);
+        return placement;
+    }
+}
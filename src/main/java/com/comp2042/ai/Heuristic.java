@@ -0,0 +1,55 @@
+package com.comp2042.ai;
+
+import com.comp2042.config.GameConfig;
+import com.comp2042.model.board.SurfaceProfile;
+
+/**
+ * Weighted linear evaluation of a board after a placement.
+ * Rewards cleared rows and penalises a high, holed or uneven surface; a
+ * higher value is a better board.
+ */
+public class Heuristic {
+
+    private final double aggregateHeightWeight;
+    private final double linesClearedWeight;
+    private final double holesWeight;
+    private final double bumpinessWeight;
+
+    /**
+     * Constructs a Heuristic with the weights from {@link GameConfig}.
+     */
+    public Heuristic() {
+        this(GameConfig.AI_WEIGHT_AGGREGATE_HEIGHT, GameConfig.AI_WEIGHT_LINES_CLEARED,
+                GameConfig.AI_WEIGHT_HOLES, GameConfig.AI_WEIGHT_BUMPINESS);
+    }
+
+    /**
+     * Constructs a Heuristic with custom weights.
+     *
+     * @param aggregateHeightWeight The weight of the sum of column heights.
+     * @param linesClearedWeight    The weight of the number of rows cleared.
+     * @param holesWeight           The weight of the number of holes.
+     * @param bumpinessWeight       The weight of the surface bumpiness.
+     */
+    public Heuristic(double aggregateHeightWeight, double linesClearedWeight, double holesWeight,
+            double bumpinessWeight) {
+        this.aggregateHeightWeight = aggregateHeightWeight;
+        this.linesClearedWeight = linesClearedWeight;
+        this.holesWeight = holesWeight;
+        this.bumpinessWeight = bumpinessWeight;
+    }
+
+    /**
+     * Scores a board.
+     *
+     * @param surface      The surface of the board.
+     * @param linesCleared The number of rows cleared to reach it.
+     * @return The score, higher being better.
+     */
+    public double evaluate(SurfaceProfile surface, int linesCleared) {
+        return aggregateHeightWeight * surface.getAggregateHeight()
+                + linesClearedWeight * linesCleared
+                + holesWeight * surface.getHoleCount()
+                + bumpinessWeight * surface.getBumpiness();
+    }
+}
@@ -0,0 +1,72 @@
+package com.comp2042.ai;
+
+import com.comp2042.model.brick.BrickShape;
+
+/**
+ * A reachable resting position of a brick, together with the input that
+ * reaches it from where the brick spawned: a number of rotations in place,
+ * then horizontal moves to the target column, then a fast drop.
+ */
+public final class Placement {
+
+    private final BrickShape shape;
+    private final int rotations;
+    private final int x;
+    private final int y;
+
+    /**
+     * Constructs a new Placement.
+     *
+     * @param shape     The rotation state the brick rests in.
+     * @param rotations The number of rotations applied at the spawn position.
+     * @param x         The column the brick rests in.
+     * @param y         The row the brick rests in.
+     */
+    public Placement(BrickShape shape, int rotations, int x, int y) {
+        this.shape = shape;
+        this.rotations = rotations;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Gets the rotation state the brick rests in.
+     *
+     * @return The brick shape.
+     */
+    public BrickShape getShape() {
+        return shape;
+    }
+
+    /**
+     * Gets the number of rotations to apply before moving sideways.
+     *
+     * @return The rotation count.
+     */
+    public int getRotations() {
+        return rotations;
+    }
+
+    /**
+     * Gets the column the brick rests in.
+     *
+     * @return The x-coordinate.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the row the brick rests in.
+     *
+     * @return The y-coordinate.
+     */
+    public int getY() {
+        return y;
+    }
+
+    @Override
+    public String toString() {
+        return "Placement{brick=" + shape.getBrickId() + ", rotations=" + rotations + ", x=" + x + ", y=" + y + "}";
+    }
+}
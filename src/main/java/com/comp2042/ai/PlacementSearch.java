@@ -0,0 +1,121 @@
+package com.comp2042.ai;
+
+import com.comp2042.model.brick.BrickShape;
+import com.comp2042.model.brick.ShapeRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Finds the best placement of the current brick, looking one brick ahead.
+ * Every reachable placement of the current brick is tried, and each is scored
+ * by the best reachable placement of the next brick on the resulting board.
+ * The placements of the current brick are independent of each other, so they
+ * can be scored in parallel on the fork-join pool of the calling thread, or
+ * the common pool.
+ */
+public class PlacementSearch {
+
+    private final Heuristic heuristic;
+    private final boolean parallel;
+
+    /**
+     * Constructs a new PlacementSearch.
+     *
+     * @param heuristic The board evaluation.
+     * @param parallel  Whether the placements of the current brick are scored
+     *                  in parallel.
+     */
+    public PlacementSearch(Heuristic heuristic, boolean parallel) {
+        this.heuristic = heuristic;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Finds the best placement of the current brick.
+     * Ties go to the placement found first, so the result does not depend on
+     * whether the search ran in parallel.
+     *
+     * @param board   The settled cells of the board.
+     * @param current The current brick shape.
+     * @param x       The column of the current brick.
+     * @param y       The row of the current brick.
+     * @param next    The next brick shape, or null to search one brick only.
+     * @param nextX   The column the next brick spawns in.
+     * @param nextY   The row the next brick spawns in.
+     * @return The best placement, or null if the current brick cannot be
+     *         placed.
+     */
+    public Placement findBest(SearchBoard board, BrickShape current, int x, int y,
+            BrickShape next, int nextX, int nextY) {
+        List<Placement> candidates = enumerate(board, current, x, y);
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        double[] scores = new double[candidates.size()];
+        IntStream indices = IntStream.range(0, scores.length);
+        if (parallel) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> scores[i] = score(board, candidates.get(i), next, nextX, nextY));
+
+        int best = 0;
+        for (int i = 1; i < scores.length; i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+        return candidates.get(best);
+    }
+
+    /**
+     * Lists every placement reachable by rotating a brick in place, then
+     * moving it sideways, then dropping it. Rotations follow the order of
+     * the board's {@link com.comp2042.model.brick.BrickRotator}, and stop at
+     * the first one that collides, as the board would refuse it.
+     *
+     * @param board The settled cells of the board.
+     * @param shape The brick shape at its current position.
+     * @param x     The column of the brick.
+     * @param y     The row of the brick.
+     * @return The reachable placements; empty if the brick does not fit.
+     */
+    public static List<Placement> enumerate(SearchBoard board, BrickShape shape, int x, int y) {
+        List<Placement> placements = new ArrayList<>();
+        if (!board.fits(shape, x, y)) {
+            return placements;
+        }
+        List<BrickShape> rotations = ShapeRegistry.getRotations(shape.getBrickId());
+        for (int r = 0; r < rotations.size(); r++) {
+            BrickShape rotated = rotations.get((shape.getRotation() + r) % rotations.size());
+            if (!board.fits(rotated, x, y)) {
+                break;
+            }
+            placements.add(new Placement(rotated, r, x, board.dropRow(rotated, x, y)));
+            for (int col = x - 1; board.fits(rotated, col, y); col--) {
+                placements.add(new Placement(rotated, r, col, board.dropRow(rotated, col, y)));
+            }
+            for (int col = x + 1; board.fits(rotated, col, y); col++) {
+                placements.add(new Placement(rotated, r, col, board.dropRow(rotated, col, y)));
+            }
+        }
+        return placements;
+    }
+
+    // A placement that leaves no room for the next brick to spawn scores lowest.
+    private double score(SearchBoard board, Placement placement, BrickShape next, int nextX, int nextY) {
+        SearchBoard after = board.place(placement.getShape(), placement.getX(), placement.getY());
+        if (next == null) {
+            return heuristic.evaluate(after, after.getLinesCleared());
+        }
+
+        double best = Double.NEGATIVE_INFINITY;
+        for (Placement nextPlacement : enumerate(after, next, nextX, nextY)) {
+            SearchBoard leaf = after.place(nextPlacement.getShape(), nextPlacement.getX(), nextPlacement.getY());
+            best = Math.max(best, heuristic.evaluate(leaf, after.getLinesCleared() + leaf.getLinesCleared()));
+        }
+        return best;
+    }
+}
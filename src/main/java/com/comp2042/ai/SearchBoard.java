@@ -0,0 +1,238 @@
+package com.comp2042.ai;
+
+import com.comp2042.model.board.BoardView;
+import com.comp2042.model.board.RowMasks;
+import com.comp2042.model.board.SurfaceProfile;
+import com.comp2042.model.brick.BrickShape;
+
+/**
+ * Immutable occupancy grid used by the placement search.
+ * Holds one bitmask per row, as {@link BoardView#getRowMask(int)} does, so a
+ * collision check is a few AND operations and placing a brick copies a single
+ * small array. Colours are not kept: the search only needs to know which
+ * cells are filled. The surface totals are computed on first use, so a board
+ * may be shared between search threads for collision checks and placing, but
+ * its surface should only be queried by one.
+ */
+public final class SearchBoard implements SurfaceProfile {
+
+    private static final int MAX_COLUMNS = Integer.SIZE - 1;
+
+    private final int[] rowMasks;
+    private final int columns;
+    private final int fullRowMask;
+    private final int linesCleared;
+
+    private int[] heights;
+    private int maxHeight;
+    private int aggregateHeight;
+    private int holeCount;
+    private int bumpiness;
+
+    private SearchBoard(int[] rowMasks, int columns, int linesCleared) {
+        this.rowMasks = rowMasks;
+        this.columns = columns;
+        this.fullRowMask = (1 << columns) - 1;
+        this.linesCleared = linesCleared;
+    }
+
+    /**
+     * Creates a search board holding the settled cells of a board.
+     *
+     * @param view The board view.
+     * @return A new SearchBoard.
+     * @throws IllegalArgumentException if the board is too wide for a row
+     *                                  bitmask.
+     */
+    public static SearchBoard of(BoardView view) {
+        int columns = view.getColumnCount();
+        if (columns > MAX_COLUMNS) {
+            throw new IllegalArgumentException("Board too wide for search: " + columns + " columns");
+        }
+        int[] rowMasks = new int[view.getRowCount()];
+        for (int y = 0; y < rowMasks.length; y++) {
+            rowMasks[y] = view.getRowMask(y);
+        }
+        return new SearchBoard(rowMasks, columns, 0);
+    }
+
+    /**
+     * Checks if a brick fits at the given position.
+     * Cells outside the board count as collisions, as in MatrixOperations.
+     *
+     * @param shape The brick shape.
+     * @param x     The column of the brick.
+     * @param y     The row of the brick.
+     * @return true if no cell of the brick collides, false otherwise.
+     */
+    public boolean fits(BrickShape shape, int x, int y) {
+        return !RowMasks.intersects(rowMasks, columns, shape, x, y);
+    }
+
+    /**
+     * Finds the row at which a brick dropped straight down from a position
+     * where it fits comes to rest.
+     *
+     * @param shape The brick shape.
+     * @param x     The column of the brick.
+     * @param y     The starting row of the brick.
+     * @return The landing row.
+     */
+    public int dropRow(BrickShape shape, int x, int y) {
+        while (fits(shape, x, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    /**
+     * Places a brick and clears the rows it completes.
+     * This board is left unchanged.
+     *
+     * @param shape The brick shape.
+     * @param x     The column of the brick.
+     * @param y     The row of the brick, where it must fit.
+     * @return A new SearchBoard holding the result.
+     */
+    public SearchBoard place(BrickShape shape, int x, int y) {
+        int[] next = rowMasks.clone();
+        for (int r = shape.getMinY(); r <= shape.getMaxY(); r++) {
+            next[y + r] |= RowMasks.place(shape.getRowMask(r), x, columns);
+        }
+
+        // Compact the rows that are not full towards the bottom
+        int write = next.length - 1;
+        for (int read = next.length - 1; read >= 0; read--) {
+            if (next[read] != fullRowMask) {
+                next[write--] = next[read];
+            }
+        }
+        int cleared = write + 1;
+        for (int row = 0; row < cleared; row++) {
+            next[row] = 0;
+        }
+        return new SearchBoard(next, columns, cleared);
+    }
+
+    /**
+     * Gets the number of rows cleared by the placement that produced this
+     * board.
+     *
+     * @return The number of rows cleared, 0 for a board taken from a view.
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return The row count.
+     */
+    public int getRowCount() {
+        return rowMasks.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getColumnCount() {
+        return columns;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getHeight(int col) {
+        computeSurface();
+        return heights[col];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getMaxHeight() {
+        computeSurface();
+        return maxHeight;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getAggregateHeight() {
+        computeSurface();
+        return aggregateHeight;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getHoleCount() {
+        computeSurface();
+        return holeCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getBumpiness() {
+        computeSurface();
+        return bumpiness;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getWellDepth(int col) {
+        computeSurface();
+        int left = col > 0 ? heights[col - 1] : Integer.MAX_VALUE;
+        int right = col < columns - 1 ? heights[col + 1] : Integer.MAX_VALUE;
+        return Math.max(0, Math.min(left, right) - heights[col]);
+    }
+
+    /*
+     * Scans the rows from the top once, recording the first filled row of
+     * every column and counting the empty cells under it.
+     */
+    private void computeSurface() {
+        if (heights != null) {
+            return;
+        }
+        int[] columnHeights = new int[columns];
+        int covered = 0;
+        int holes = 0;
+        for (int row = 0; row < rowMasks.length; row++) {
+            int mask = rowMasks[row];
+            holes += Integer.bitCount(covered & ~mask);
+            int newlyCovered = mask & ~covered;
+            while (newlyCovered != 0) {
+                columnHeights[Integer.numberOfTrailingZeros(newlyCovered)] = rowMasks.length - row;
+                newlyCovered &= newlyCovered - 1;
+            }
+            covered |= mask;
+        }
+
+        int max = 0;
+        int aggregate = 0;
+        int bumps = 0;
+        for (int col = 0; col < columns; col++) {
+            max = Math.max(max, columnHeights[col]);
+            aggregate += columnHeights[col];
+            if (col > 0) {
+                bumps += Math.abs(columnHeights[col] - columnHeights[col - 1]);
+            }
+        }
+        maxHeight = max;
+        aggregateHeight = aggregate;
+        holeCount = holes;
+        bumpiness = bumps;
+        heights = columnHeights;
+    }
+}
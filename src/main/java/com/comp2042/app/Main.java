@@ -4,6 +4,7 @@ import com.comp2042.config.GameConfig;
 import com.comp2042.controller.GameController;
 import com.comp2042.controller.GuiController;
 import com.comp2042.controller.MainMenuController;
+import com.comp2042.replay.Replay;
 
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
@@ -89,6 +90,21 @@ public class Main extends Application {
      * Switches to the game scene and initializes the game controller.
      */
     public static void showGame() {
+        showGame(null);
+    }
+
+    /**
+     * Switches to the game scene and plays back a recorded game.
+     * A replay is not kept as an active game when leaving to the menu.
+     *
+     * @param replay The game to play back.
+     */
+    public static void showReplay(Replay replay) {
+        showGame(replay);
+    }
+
+    // Starts a game, or the playback of a replay if one is given.
+    private static void showGame(Replay replay) {
         try {
             URL location = Main.class.getClassLoader().getResource("gameLayout.fxml");
             FXMLLoader fxmlLoader = new FXMLLoader(location);
@@ -99,8 +115,8 @@ public class Main extends Application {
             primaryStage.setScene(gameScene);
 
             // Initialize the game controller which starts the game logic
-            new GameController(currentGuiController);
-            hasActiveGame = true;
+            new GameController(currentGuiController, replay);
+            hasActiveGame = replay == null;
 
             // Add window focus listener to restore game panel focus after alt-tab
             GridPane gamePanel = currentGuiController.getGamePanel();
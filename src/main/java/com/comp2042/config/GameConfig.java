@@ -19,6 +19,9 @@ public final class GameConfig {
     /** Starting Y position for new tetrominos */
     public static final int TETROMINO_START_Y = 5;
 
+    /** Number of upcoming tetrominos kept in the preview queue */
+    public static final int BRICK_PREVIEW_COUNT = 5;
+
     // -------------------- Lock Delay Settings --------------------
     /** Duration in milliseconds before a piece locks when it can't move down */
     public static final int LOCK_DELAY_MS = 450;
@@ -46,10 +49,52 @@ public final class GameConfig {
     /** Auto-drop interval in milliseconds (how fast pieces fall) */
     public static final int GAME_TICK_DURATION_MS = 400;
 
+    /** Length of one fixed game loop step in milliseconds */
+    public static final int LOGIC_STEP_MS = 5;
+
+    /** Longest frame the game loop catches up on; longer stalls are dropped */
+    public static final int MAX_FRAME_TIME_MS = 250;
+
+    /** Width of one frame time histogram bucket in microseconds */
+    public static final int FRAME_HISTOGRAM_BUCKET_US = 100;
+
+    /** Number of frame time histogram buckets; longer times go in the last one */
+    public static final int FRAME_HISTOGRAM_BUCKETS = 500;
+
+    // -------------------- Input Settings --------------------
+    /** Default delay in milliseconds before a held move key starts repeating (DAS) */
+    public static final int DEFAULT_DAS_MS = 170;
+
+    /** Default interval in milliseconds between repeated moves (ARR), 0 for instant */
+    public static final int DEFAULT_ARR_MS = 50;
+
+    /** Largest DAS delay that can be configured */
+    public static final int MAX_DAS_MS = 500;
+
+    /** Largest ARR interval that can be configured */
+    public static final int MAX_ARR_MS = 200;
+
     // -------------------- Scoring Configuration --------------------
     /** Score multiplier per row cleared (score = multiplier * rows * rows) */
     public static final int SCORE_MULTIPLIER_PER_ROW = 50;
 
+    // -------------------- AI Configuration --------------------
+    /** Heuristic weight of the sum of all column heights after a placement */
+    public static final double AI_WEIGHT_AGGREGATE_HEIGHT = -0.510066;
+
+    /** Heuristic weight of the number of rows cleared by a placement */
+    public static final double AI_WEIGHT_LINES_CLEARED = 0.760666;
+
+    /** Heuristic weight of the number of holes after a placement */
+    public static final double AI_WEIGHT_HOLES = -0.35663;
+
+    /** Heuristic weight of the bumpiness of the surface after a placement */
+    public static final double AI_WEIGHT_BUMPINESS = -0.184483;
+
+    // -------------------- Replay Configuration --------------------
+    /** Directory replays are saved to, relative to the working directory */
+    public static final String REPLAY_DIRECTORY = "replays";
+
     // -------------------- UI Configuration --------------------
     /** Font size for digital display font */
     public static final int DIGITAL_FONT_SIZE = 38;
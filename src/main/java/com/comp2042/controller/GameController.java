@@ -1,263 +1,241 @@
 package com.comp2042.controller;
 
 import com.comp2042.config.GameConfig;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.engine.GameEventListener;
 import com.comp2042.input.InputEventListener;
 import com.comp2042.input.MoveEvent;
+import com.comp2042.manager.SettingsManager;
 import com.comp2042.model.board.Board;
 import com.comp2042.model.board.SimpleBoard;
+import com.comp2042.model.brick.SeededBrickGenerator;
 import com.comp2042.model.data.DownData;
 import com.comp2042.model.data.ViewData;
 import com.comp2042.model.score.ClearRow;
+import com.comp2042.model.settings.DifficultyMode;
+import com.comp2042.model.settings.RandomizerMode;
+import com.comp2042.replay.Replay;
+import com.comp2042.replay.ReplayPlayer;
+import com.comp2042.replay.ReplayRecorder;
+import com.comp2042.replay.ReplayStore;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.util.Duration;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+import java.io.IOException;
+import java.nio.file.Path;
 
 /**
- * Controls the main game logic and flow.
- * Handles user input events, updates the game state, and manages the game loop.
+ * Connects the headless {@link GameEngine} to the GUI.
+ * Forwards input events to the engine and pushes engine events back to the
+ * {@link GuiController}. The engine clock, which times gravity and lock
+ * delay, is advanced by the GUI game loop.
+ *
+ * <p>Every game gets its own brick seed. When replays are enabled in the
+ * settings, the input that changed the game is recorded against the engine
+ * clock and saved as a {@link Replay} when the game ends. Given a replay, the
+ * controller instead plays it back at real speed and ignores the player's
+ * moves.
  */
-public class GameController implements InputEventListener {
+public class GameController implements InputEventListener, GameEventListener {
 
-    private final Board board = new SimpleBoard(GameConfig.BOARD_WIDTH, GameConfig.BOARD_HEIGHT);
+    private final SeededBrickGenerator brickGenerator;
+    private final Board board;
+    private final GameEngine engine;
     private final GuiController viewGuiController;
-
-    // Lock delay timer components
-    private Timeline lockTimer;
-    private boolean lockDelayActive = false;
-    private int lockResetCount = 0;
+    private final IntegerProperty scoreProperty = new SimpleIntegerProperty();
+    private final DifficultyMode difficulty;
+    private final RandomizerMode randomizer;
+    // Records the player's games; null when watching a replay or not recording.
+    private final ReplayRecorder recorder;
+    // Plays back a recorded game; null when the player is in control.
+    private final ReplayPlayer replayPlayer;
+    private long seed;
 
     /**
      * Constructs a new GameController.
-     * Initializes the board and binds the GUI controller.
+     * Initializes the engine and binds the GUI controller.
+     * The GUI game loop advances the engine clock, which applies gravity at
+     * the rate of the current difficulty and locks pieces when their lock
+     * delay runs out.
      * 
      * @param c The {@link GuiController} responsible for the view.
      */
     public GameController(GuiController c) {
+        this(c, null);
+    }
+
+    /**
+     * Constructs a GameController that plays back a recorded game.
+     * The game loop advances the replay instead of the engine, so the game
+     * is shown at the speed it was played.
+     *
+     * @param c      The {@link GuiController} responsible for the view.
+     * @param replay The game to play back, or null to let the player play.
+     */
+    public GameController(GuiController c, Replay replay) {
         viewGuiController = c;
-        board.createNewBrick();
+        SettingsManager settings = SettingsManager.getInstance();
+        // Settings are fixed for the session, so a recorded game can be set up again
+        difficulty = replay != null ? replay.getDifficulty() : settings.getDifficulty();
+        randomizer = replay != null ? replay.getRandomizer() : settings.getRandomizer();
+        seed = replay != null ? replay.getSeed() : System.nanoTime();
+        brickGenerator = new SeededBrickGenerator(seed, randomizer, GameConfig.BRICK_PREVIEW_COUNT);
+        board = new SimpleBoard(GameConfig.BOARD_WIDTH, GameConfig.BOARD_HEIGHT, brickGenerator,
+                difficulty::getSpawnYPosition);
+        engine = new GameEngine(board, difficulty.getTickDurationMs());
+        engine.setGameEventListener(this);
+        recorder = replay == null && settings.isRecordReplays() ? new ReplayRecorder() : null;
+        replayPlayer = replay != null ? new ReplayPlayer(replay, engine) : null;
+        startGame();
+        board.getScore().addListener(scoreProperty::set);
         viewGuiController.setEventListener(this);
-        viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
-        viewGuiController.bindScore(board.getScore().scoreProperty());
+        viewGuiController.initGameView(board.getBoardView(), board.getViewData(),
+                replayPlayer != null ? replayPlayer::advance : engine::advance);
+        viewGuiController.bindScore(scoreProperty);
     }
 
     /**
-     * Handles the 'down' event (moving the brick down).
-     * Manages lock delay logic when the brick cannot move further.
-     *
-     * @param event The move event.
-     * @return The {@link DownData} containing the result of the move.
+     * {@inheritDoc}
      */
     @Override
     public DownData onDownEvent(MoveEvent event) {
-        boolean canMove = board.moveBrickDown();
-
-        if (canMove) {
-            // Piece moved down successfully
-            stopLockDelay();
+        if (!accept(event)) {
             return new DownData(null, board.getViewData());
         }
-
-        // Piece cannot move down - start/wait for lock delay
-        if (GameConfig.LOCK_DELAY_ENABLED && !lockDelayActive) {
-            startLockDelay();
-        } else if (!GameConfig.LOCK_DELAY_ENABLED) {
-            return lockPieceAndReturn();
-        }
-
-        return new DownData(null, board.getViewData());
+        return engine.onDownEvent(event);
     }
 
     /**
-     * Handles the 'left' event (moving the brick left).
-     * Resets lock delay if active and move is successful.
-     *
-     * @param event The move event.
-     * @return The updated {@link ViewData}.
+     * {@inheritDoc}
      */
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
-        boolean moved = board.moveBrickLeft();
-        if (moved && lockDelayActive) {
-            resetLockDelay();
+        if (!accept(event)) {
+            return board.getViewData();
         }
-        return board.getViewData();
+        long moves = engine.getMovesApplied();
+        ViewData viewData = engine.onLeftEvent(event);
+        discardIfBlocked(moves);
+        return viewData;
     }
 
     /**
-     * Handles the 'right' event (moving the brick right).
-     * Resets lock delay if active and move is successful.
-     *
-     * @param event The move event.
-     * @return The updated {@link ViewData}.
+     * {@inheritDoc}
      */
     @Override
     public ViewData onRightEvent(MoveEvent event) {
-        boolean moved = board.moveBrickRight();
-        if (moved && lockDelayActive) {
-            resetLockDelay();
+        if (!accept(event)) {
+            return board.getViewData();
         }
-        return board.getViewData();
+        long moves = engine.getMovesApplied();
+        ViewData viewData = engine.onRightEvent(event);
+        discardIfBlocked(moves);
+        return viewData;
     }
 
     /**
-     * Handles the 'rotate' event (rotating the brick).
-     * Resets lock delay if active and rotation is successful.
-     *
-     * @param event The move event.
-     * @return The updated {@link ViewData}.
+     * {@inheritDoc}
      */
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
-        boolean rotated = board.rotateLeftBrick();
-        if (rotated && lockDelayActive) {
-            resetLockDelay();
+        if (!accept(event)) {
+            return board.getViewData();
         }
-        return board.getViewData();
+        long moves = engine.getMovesApplied();
+        ViewData viewData = engine.onRotateEvent(event);
+        discardIfBlocked(moves);
+        return viewData;
     }
 
     /**
-     * Handles the 'fast drop' event (dropping the brick to the bottom).
-     * Locks the piece immediately.
-     *
-     * @param event The move event.
-     * @return The {@link DownData} containing the result of the drop.
+     * {@inheritDoc}
      */
     @Override
     public DownData onFastDropEvent(MoveEvent event) {
-        stopLockDelay();
-
-        // Drop piece to bottom
-        while (board.moveBrickDown()) {
+        if (!accept(event)) {
+            return new DownData(null, board.getViewData());
         }
-
-        // Lock immediately (no delay for fast drop)
-        return lockPieceAndReturn();
+        return engine.onFastDropEvent(event);
     }
 
     /**
      * Starts a new game.
-     * Resets the board and game state.
+     * Resets the engine and redraws the board. When watching a replay, the
+     * replay starts again from the beginning.
      */
     @Override
     public void createNewGame() {
-        stopLockDelay();
-        board.newGame();
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        startGame();
+        viewGuiController.refreshGameBackgroundWithViewData(board.getBoardView(), board.getViewData());
     }
 
     /**
-     * Starts the lock delay timer.
+     * {@inheritDoc}
+     * Shows the score notification. The game loop draws the new piece with
+     * the rest of the frame.
      */
-    private void startLockDelay() {
-        lockDelayActive = true;
-        lockResetCount = 0;
-        createLockTimer();
-    }
-
-    /**
-     * Resets the lock delay timer if the maximum resets haven't been reached.
-     */
-    private void resetLockDelay() {
-        lockResetCount++;
-
-        // Max resets reached, lock tetronimo.
-        if (lockResetCount >= GameConfig.MAX_LOCK_RESETS) {
-            lockPieceNow();
-        } else {
-            // Reset timer
-            createLockTimer();
+    @Override
+    public void onPieceLocked(ClearRow clearRow) {
+        if (clearRow.getLinesRemoved() > 0) {
+            viewGuiController.showScoreNotification(clearRow.getScoreBonus());
         }
+        // Bring the shared view data up to date with the new piece
+        board.getViewData();
     }
 
     /**
-     * Stops the lock delay timer.
+     * {@inheritDoc}
      */
-    private void stopLockDelay() {
-        if (lockTimer != null) {
-            lockTimer.stop();
-            lockTimer = null;
+    @Override
+    public void onGameOver() {
+        if (recorder != null) {
+            saveReplay(recorder.finish(engine.getScore().getValue(), engine.getClock()));
         }
-        lockDelayActive = false;
-        lockResetCount = 0;
+        viewGuiController.gameOver();
     }
 
-    /**
-     * Creates and starts the timeline for lock delay.
-     */
-    private void createLockTimer() {
-        if (lockTimer != null) {
-            lockTimer.stop();
+    // Each game draws from a fresh seed, unless it is a replay being watched again.
+    private void startGame() {
+        if (replayPlayer == null) {
+            seed = System.nanoTime();
         }
-
-        lockTimer = new Timeline(new KeyFrame(
-                Duration.millis(GameConfig.LOCK_DELAY_MS),
-                event -> lockPieceNow()));
-        lockTimer.setCycleCount(1);
-        lockTimer.play();
-    }
-
-    // Locks piece and updates GUI (called by timer).
-    /**
-     * Locks the piece immediately.
-     * Called when the lock timer expires.
-     */
-    private void lockPieceNow() {
-        // Verify the piece still cannot move down before locking
-        // This prevents race conditions where the piece is moved just as the timer
-        // expires
-        if (((SimpleBoard) board).canMoveDown()) {
-            // Piece can still move down, don't lock it
-            stopLockDelay();
-            return;
+        brickGenerator.reseed(seed);
+        engine.createNewGame();
+        if (recorder != null) {
+            recorder.start(seed, difficulty, randomizer);
         }
-
-        stopLockDelay();
-        board.mergeBrickToBackground();
-
-        // Check for cleared rows and show notification
-        ClearRow clearRow = board.clearRows();
-        if (clearRow.getLinesRemoved() > 0) {
-            board.getScore().add(clearRow.getScoreBonus());
-            viewGuiController.showScoreNotification(clearRow.getScoreBonus());
+        if (replayPlayer != null) {
+            replayPlayer.restart();
         }
+    }
 
-        // Create new piece
-        if (board.createNewBrick()) {
-            viewGuiController.gameOver();
+    // Records a player's move, or rejects it while a replay is playing.
+    // Moves after game over change nothing, so they are not recorded.
+    private boolean accept(MoveEvent event) {
+        if (replayPlayer != null) {
+            return false;
         }
-
-        // Update display with fresh ViewData
-        ViewData newViewData = board.getViewData();
-        viewGuiController.refreshGameBackgroundWithViewData(board.getBoardMatrix(), newViewData);
+        if (recorder != null && !engine.isGameOver()) {
+            recorder.record(event.getEventType(), engine.getClock());
+        }
+        return true;
     }
 
-    // Locks piece and returns DownData (for immediate locking scenarios).
-    /**
-     * Locks the piece and returns the result.
-     * Used for fast drops or when lock delay is disabled.
-     *
-     * @return The {@link DownData} result.
-     */
-    private DownData lockPieceAndReturn() {
-        stopLockDelay();
-        board.mergeBrickToBackground();
-
-        // Check for cleared rows
-        ClearRow clearRow = board.clearRows();
-        if (clearRow.getLinesRemoved() > 0) {
-            board.getScore().add(clearRow.getScoreBonus());
+    // A blocked move or rotation leaves the engine as it was, so playback does not need it.
+    // It is recorded first anyway, because a move that ends the game saves the replay.
+    // Nothing was recorded if the game was already over.
+    private void discardIfBlocked(long movesBefore) {
+        if (recorder != null && !engine.isGameOver() && engine.getMovesApplied() == movesBefore) {
+            recorder.discardLast();
         }
+    }
 
-        // Create new piece
-        if (board.createNewBrick()) {
-            viewGuiController.gameOver();
+    private void saveReplay(Replay replay) {
+        try {
+            new ReplayStore(Path.of(GameConfig.REPLAY_DIRECTORY)).save(replay);
+        } catch (IOException e) {
+            System.err.println("Error saving replay: " + e.getMessage());
         }
-
-        // Update display with fresh ViewData
-        ViewData newViewData = board.getViewData();
-        viewGuiController.refreshGameBackgroundWithViewData(board.getBoardMatrix(), newViewData);
-
-        return new DownData(clearRow, newViewData);
     }
 }
@@ -6,15 +6,16 @@ import com.comp2042.input.InputEventListener;
 import com.comp2042.input.KeyboardInputHandler;
 import com.comp2042.manager.GameStateManager;
 import com.comp2042.manager.NotificationManager;
+import com.comp2042.manager.SettingsManager;
+import com.comp2042.model.board.BoardView;
 import com.comp2042.model.data.ViewData;
+import com.comp2042.model.settings.RenderMode;
 import com.comp2042.view.panel.GameOverPanel;
 import com.comp2042.view.panel.ResumePanel;
-import com.comp2042.view.renderer.BoardRenderer;
-import com.comp2042.view.renderer.BrickRenderer;
+import com.comp2042.view.renderer.CanvasPlayfieldRenderer;
 import com.comp2042.view.renderer.NextBrickRenderer;
-import com.comp2042.input.EventSource;
-import com.comp2042.input.EventType;
-import com.comp2042.input.MoveEvent;
+import com.comp2042.view.renderer.NodePlayfieldRenderer;
+import com.comp2042.view.renderer.PlayfieldRenderer;
 
 import javafx.beans.property.IntegerProperty;
 import javafx.event.ActionEvent;
@@ -26,6 +27,7 @@ import javafx.scene.text.Font;
 
 import java.net.URL;
 import java.util.ResourceBundle;
+import java.util.function.LongConsumer;
 
 /**
  * Main GUI controller that coordinates all UI components.
@@ -50,8 +52,7 @@ public class GuiController implements Initializable {
 
     // Component delegates
     private KeyboardInputHandler keyboardHandler;
-    private BoardRenderer boardRenderer;
-    private BrickRenderer brickRenderer;
+    private PlayfieldRenderer playfieldRenderer;
     private NextBrickRenderer nextBrickRenderer;
     private GameStateManager stateManager;
     private NotificationManager notificationManager;
@@ -72,8 +73,9 @@ public class GuiController implements Initializable {
                 GameConfig.DIGITAL_FONT_SIZE);
 
         // Initialize all component delegates
-        boardRenderer = new BoardRenderer();
-        brickRenderer = new BrickRenderer();
+        playfieldRenderer = SettingsManager.getInstance().getRenderMode() == RenderMode.CANVAS
+                ? new CanvasPlayfieldRenderer()
+                : new NodePlayfieldRenderer();
         nextBrickRenderer = new NextBrickRenderer();
         stateManager = new GameStateManager();
         notificationManager = new NotificationManager(groupNotification);
@@ -81,14 +83,11 @@ public class GuiController implements Initializable {
 
         // Wire up dependencies
         stateManager.setGameOverPanel(gameOverPanel);
-        stateManager.setNotificationManager(notificationManager);
-        stateManager.setBrickRenderer(brickRenderer);
-        stateManager.setBoardRenderer(boardRenderer);
+        stateManager.setPlayfieldRenderer(playfieldRenderer);
+        stateManager.setNextBrickRenderer(nextBrickRenderer);
         stateManager.setGuiController(this);
 
         keyboardHandler.setGameStateManager(stateManager);
-        keyboardHandler.setBrickRenderer(brickRenderer);
-        keyboardHandler.setBoardRenderer(boardRenderer);
 
         gameOverPanel.setVisible(false);
         resumePanel.setVisible(false);
@@ -97,48 +96,44 @@ public class GuiController implements Initializable {
     /**
      * Initializes the game view with initial board and brick data.
      * 
-     * @param boardMatrix Initial board matrix
-     * @param brick       Initial brick data
+     * @param board   Live view of the board
+     * @param brick   Initial brick data
+     * @param advance Advances the game clock by a number of milliseconds
      */
-    public void initGameView(int[][] boardMatrix, ViewData brick) {
+    public void initGameView(BoardView board, ViewData brick, LongConsumer advance) {
         // Initialize renderers
-        boardRenderer.initialize(boardMatrix, gamePanel);
-        brickRenderer.initialize(brick, brickPanel, gamePanel, boardRenderer);
-        nextBrickRenderer.initialize(brick.getNextBrickData(), nextBrickPanel);
+        playfieldRenderer.initialize(board, brick, gamePanel, brickPanel);
+        nextBrickRenderer.initialize(brick.getNextBrickShape(), nextBrickPanel);
 
-        // Setup game timeline
-        stateManager.setupTimeline(gamePanel,
-                () -> stateManager.moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD)));
+        // The view is live, so handlers keep it for the rest of the game
+        keyboardHandler.setBoardView(board);
+        keyboardHandler.setViewData(brick);
+        stateManager.setBoardView(board);
 
         // Setup keyboard controls
         keyboardHandler.setupKeyboardControls(gamePanel);
 
-        // Initial render with ghost
-        boardRenderer.refresh(boardMatrix);
-        brickRenderer.refreshWithGhost(brick, boardMatrix);
+        // Setup game loop; held keys are repeated before the clock advances
+        stateManager.setupGameLoop(gamePanel, keyboardHandler::processInput, stepMs -> {
+            keyboardHandler.update(stepMs);
+            advance.accept(stepMs);
+        });
 
-        // Update keyboard handler and state manager with board matrix
-        keyboardHandler.updateBoardMatrix(boardMatrix);
-        stateManager.updateBoardMatrix(boardMatrix);
+        // Initial render with ghost
+        playfieldRenderer.refresh(brick, board);
     }
 
     /**
      * Refreshes the game background (locked pieces).
      * 
-     * @param board Current board matrix
+     * @param board Live view of the board
      */
-    public void refreshGameBackground(int[][] board) {
-        // Update keyboard handler and state manager with latest board state
-        keyboardHandler.updateBoardMatrix(board);
-        stateManager.updateBoardMatrix(board);
-
-        boardRenderer.refresh(board);
-
-        // Render ghost using cached ViewData
-        ViewData currentViewData = brickRenderer.getCurrentViewData();
+    public void refreshGameBackground(BoardView board) {
+        // Render board and ghost using cached ViewData
+        ViewData currentViewData = playfieldRenderer.getCurrentViewData();
+        playfieldRenderer.refreshBackground(currentViewData, board);
         if (currentViewData != null) {
-            brickRenderer.renderGhost(currentViewData, board);
-            nextBrickRenderer.refresh(currentViewData.getNextBrickData());
+            nextBrickRenderer.refresh(currentViewData.getNextBrickShape());
         }
     }
 
@@ -147,18 +142,13 @@ public class GuiController implements Initializable {
      * Use this when ViewData has just been updated (e.g., after creating a new
      * brick).
      * 
-     * @param board    Current board matrix
+     * @param board    Live view of the board
      * @param viewData Fresh ViewData from the board
      */
-    public void refreshGameBackgroundWithViewData(int[][] board, ViewData viewData) {
-        // Update keyboard handler and state manager with latest board state
-        keyboardHandler.updateBoardMatrix(board);
-        stateManager.updateBoardMatrix(board);
-
-        boardRenderer.refresh(board);
-        brickRenderer.renderGhost(viewData, board);
+    public void refreshGameBackgroundWithViewData(BoardView board, ViewData viewData) {
+        playfieldRenderer.refreshBackground(viewData, board);
         // Use fresh ViewData to get accurate next brick
-        nextBrickRenderer.refresh(viewData.getNextBrickData());
+        nextBrickRenderer.refresh(viewData.getNextBrickShape());
     }
 
     /**
@@ -1,12 +1,19 @@
 package com.comp2042.controller;
 
 import com.comp2042.app.Main;
+import com.comp2042.config.GameConfig;
+import com.comp2042.replay.Replay;
+import com.comp2042.replay.ReplayStore;
 
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
 /**
  * Controller for the main menu screen.
  * Handles user navigation between menu, game, and settings.
@@ -17,6 +24,9 @@ public class MainMenuController {
     @FXML
     private Button startButton;
 
+    @FXML
+    private Button replayButton;
+
     @FXML
     private Button settingsButton;
 
@@ -60,6 +70,25 @@ public class MainMenuController {
         }
     }
 
+    /**
+     * Handles Watch Replay button click.
+     * Plays back the most recently saved game, if there is one.
+     */
+    @FXML
+    void onWatchReplay(ActionEvent event) {
+        try {
+            Optional<Path> latest = new ReplayStore(Path.of(GameConfig.REPLAY_DIRECTORY)).latest();
+            if (latest.isEmpty()) {
+                replayButton.setText("NO REPLAYS YET");
+                return;
+            }
+            Replay replay = Replay.load(latest.get());
+            Main.showReplay(replay);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Error loading replay: " + e.getMessage());
+        }
+    }
+
     /**
      * Handles Settings button click.
      * Opens the settings screen.
@@ -1,20 +1,28 @@
 package com.comp2042.controller;
 
 import com.comp2042.app.Main;
+import com.comp2042.config.GameConfig;
 import com.comp2042.manager.SettingsManager;
 import com.comp2042.model.settings.DifficultyMode;
 import com.comp2042.model.settings.KeyBindings;
+import com.comp2042.model.settings.RandomizerMode;
+import com.comp2042.model.settings.RenderMode;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.CheckBox;
 import javafx.scene.control.ComboBox;
+import javafx.scene.control.Spinner;
+import javafx.scene.control.SpinnerValueFactory;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 
+import java.util.StringJoiner;
+
 /**
  * Controller for the Settings screen.
- * Handles music, difficulty, and keybinding configuration.
+ * Handles music, difficulty, rendering, and keybinding configuration.
  */
 public class SettingsController {
 
@@ -22,6 +30,12 @@ public class SettingsController {
     private CheckBox musicMuteCheckbox;
     @FXML
     private ComboBox<DifficultyMode> difficultyComboBox;
+    @FXML
+    private ComboBox<RandomizerMode> randomizerComboBox;
+    @FXML
+    private ComboBox<RenderMode> renderModeComboBox;
+    @FXML
+    private CheckBox recordReplaysCheckbox;
 
     // Keybind buttons
     @FXML
@@ -39,6 +53,12 @@ public class SettingsController {
     @FXML
     private Button resetKeysButton;
 
+    // Auto-shift timing
+    @FXML
+    private Spinner<Integer> dasSpinner;
+    @FXML
+    private Spinner<Integer> arrSpinner;
+
     private SettingsManager settings;
     private Button currentlyRebindingButton = null;
     private KeyBindings.Action currentlyRebindingAction = null;
@@ -69,6 +89,43 @@ public class SettingsController {
             }
         });
 
+        // Setup randomizer dropdown
+        randomizerComboBox.getItems().addAll(RandomizerMode.values());
+        randomizerComboBox.setValue(settings.getRandomizer());
+        randomizerComboBox.valueProperty().addListener((obs, oldVal, newVal) -> {
+            if (newVal != null) {
+                settings.setRandomizer(newVal);
+            }
+        });
+
+        // Bind replay recording checkbox
+        recordReplaysCheckbox.selectedProperty().bindBidirectional(settings.recordReplaysProperty());
+
+        // Setup render mode dropdown
+        renderModeComboBox.getItems().addAll(RenderMode.values());
+        renderModeComboBox.setValue(settings.getRenderMode());
+        renderModeComboBox.valueProperty().addListener((obs, oldVal, newVal) -> {
+            if (newVal != null) {
+                settings.setRenderMode(newVal);
+            }
+        });
+
+        // Setup auto-shift spinners
+        dasSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(
+                0, GameConfig.MAX_DAS_MS, settings.getAutoShiftDelay(), 10));
+        dasSpinner.valueProperty().addListener((obs, oldVal, newVal) -> {
+            if (newVal != null) {
+                settings.setAutoShiftDelay(newVal);
+            }
+        });
+        arrSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(
+                0, GameConfig.MAX_ARR_MS, settings.getAutoRepeatRate(), 5));
+        arrSpinner.valueProperty().addListener((obs, oldVal, newVal) -> {
+            if (newVal != null) {
+                settings.setAutoRepeatRate(newVal);
+            }
+        });
+
         // Setup keybind buttons
         setupKeybindButton(leftKeyButton, KeyBindings.Action.MOVE_LEFT);
         setupKeybindButton(rightKeyButton, KeyBindings.Action.MOVE_RIGHT);
@@ -116,12 +173,21 @@ public class SettingsController {
 
     private void updateAllKeybindButtons() {
         KeyBindings bindings = settings.getKeyBindings();
-        leftKeyButton.setText(bindings.getBinding(KeyBindings.Action.MOVE_LEFT).toString());
-        rightKeyButton.setText(bindings.getBinding(KeyBindings.Action.MOVE_RIGHT).toString());
-        downKeyButton.setText(bindings.getBinding(KeyBindings.Action.MOVE_DOWN).toString());
-        rotateKeyButton.setText(bindings.getBinding(KeyBindings.Action.ROTATE).toString());
-        dropKeyButton.setText(bindings.getBinding(KeyBindings.Action.FAST_DROP).toString());
-        pauseKeyButton.setText(bindings.getBinding(KeyBindings.Action.PAUSE).toString());
+        leftKeyButton.setText(describeKeys(bindings, KeyBindings.Action.MOVE_LEFT));
+        rightKeyButton.setText(describeKeys(bindings, KeyBindings.Action.MOVE_RIGHT));
+        downKeyButton.setText(describeKeys(bindings, KeyBindings.Action.MOVE_DOWN));
+        rotateKeyButton.setText(describeKeys(bindings, KeyBindings.Action.ROTATE));
+        dropKeyButton.setText(describeKeys(bindings, KeyBindings.Action.FAST_DROP));
+        pauseKeyButton.setText(describeKeys(bindings, KeyBindings.Action.PAUSE));
+    }
+
+    // Lists every key of an action; rebinding replaces the first one.
+    private String describeKeys(KeyBindings bindings, KeyBindings.Action action) {
+        StringJoiner keys = new StringJoiner(" / ");
+        for (KeyCode keyCode : bindings.getBindings(action)) {
+            keys.add(keyCode.toString());
+        }
+        return keys.toString();
     }
 
     @FXML
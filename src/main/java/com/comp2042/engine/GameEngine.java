@@ -0,0 +1,330 @@
+package com.comp2042.engine;
+
+import com.comp2042.config.GameConfig;
+import com.comp2042.input.EventSource;
+import com.comp2042.input.EventType;
+import com.comp2042.input.InputEventListener;
+import com.comp2042.input.MoveEvent;
+import com.comp2042.model.board.Board;
+import com.comp2042.model.data.DownData;
+import com.comp2042.model.data.ViewData;
+import com.comp2042.model.score.ClearRow;
+import com.comp2042.model.score.Score;
+
+/**
+ * Headless game engine.
+ * Owns the board, the score and the gravity and lock delay rules, and runs on
+ * an explicit millisecond clock instead of JavaFX timelines, so any number of
+ * games can be stepped without a display. Front ends feed it input events and
+ * observe it through a {@link GameEventListener}.
+ */
+public class GameEngine implements InputEventListener {
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+    private static final MoveEvent GRAVITY_EVENT = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+
+    private final Board board;
+    private GameEventListener gameEventListener;
+    // Reused for every down move that clears nothing; the view data is updated in place.
+    private DownData plainDownData;
+
+    private long gravityIntervalMs;
+    private long clock;
+    private long nextGravityTime;
+    private long lockDeadline = NO_DEADLINE;
+
+    private boolean lockDelayActive = false;
+    private int lockResetCount = 0;
+    private boolean gameOver = false;
+    private long movesApplied;
+
+    /**
+     * Constructs a new GameEngine.
+     *
+     * @param board             The board to play on.
+     * @param gravityIntervalMs The time between automatic drops in
+     *                          milliseconds, or 0 to disable gravity.
+     */
+    public GameEngine(Board board, long gravityIntervalMs) {
+        this.board = board;
+        this.gravityIntervalMs = gravityIntervalMs;
+        this.nextGravityTime = gravityIntervalMs > 0 ? gravityIntervalMs : NO_DEADLINE;
+    }
+
+    /**
+     * Sets the listener notified of locked pieces and game over.
+     *
+     * @param gameEventListener The listener, or null for none.
+     */
+    public void setGameEventListener(GameEventListener gameEventListener) {
+        this.gameEventListener = gameEventListener;
+    }
+
+    /**
+     * Advances the engine clock, applying every gravity step and lock delay
+     * expiry that falls within the elapsed time in order.
+     *
+     * @param deltaMs The elapsed time in milliseconds.
+     */
+    public void advance(long deltaMs) {
+        long target = clock + deltaMs;
+        while (!gameOver) {
+            long next = Math.min(nextGravityTime, lockDeadline);
+            if (next > target) {
+                break;
+            }
+            clock = next;
+            if (lockDeadline <= nextGravityTime) {
+                onLockDelayElapsed();
+            } else {
+                nextGravityTime += gravityIntervalMs;
+                onDownEvent(GRAVITY_EVENT);
+            }
+        }
+        clock = target;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Manages lock delay logic when the brick cannot move further.
+     */
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        if (gameOver) {
+            return downData(null);
+        }
+        boolean canMove = board.moveBrickDown();
+
+        if (canMove) {
+            // Piece moved down successfully
+            stopLockDelay();
+            return downData(null);
+        }
+
+        // Piece cannot move down - start/wait for lock delay
+        if (GameConfig.LOCK_DELAY_ENABLED && !lockDelayActive) {
+            startLockDelay();
+        } else if (!GameConfig.LOCK_DELAY_ENABLED) {
+            ClearRow clearRow = lockPiece();
+            return downData(clearRow);
+        }
+
+        return downData(null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Resets lock delay if active and move is successful.
+     */
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        if (!gameOver && board.moveBrickLeft()) {
+            movesApplied++;
+            if (lockDelayActive) {
+                resetLockDelay();
+            }
+        }
+        return board.getViewData();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Resets lock delay if active and move is successful.
+     */
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        if (!gameOver && board.moveBrickRight()) {
+            movesApplied++;
+            if (lockDelayActive) {
+                resetLockDelay();
+            }
+        }
+        return board.getViewData();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Resets lock delay if active and rotation is successful.
+     */
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        if (!gameOver && board.rotateLeftBrick()) {
+            movesApplied++;
+            if (lockDelayActive) {
+                resetLockDelay();
+            }
+        }
+        return board.getViewData();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Locks the piece immediately.
+     */
+    @Override
+    public DownData onFastDropEvent(MoveEvent event) {
+        if (gameOver) {
+            return downData(null);
+        }
+        stopLockDelay();
+
+        // Jump to the landing row and lock immediately (no delay for fast drop)
+        board.hardDrop();
+        ClearRow clearRow = clearRowsAndSpawn();
+        return downData(clearRow);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Resets the board, the score and the engine clock.
+     */
+    @Override
+    public void createNewGame() {
+        stopLockDelay();
+        board.newGame();
+        gameOver = false;
+        clock = 0;
+        nextGravityTime = gravityIntervalMs > 0 ? gravityIntervalMs : NO_DEADLINE;
+    }
+
+    /**
+     * Locks the piece when the lock delay runs out.
+     * Called by the engine clock when it reaches the lock deadline.
+     */
+    private void onLockDelayElapsed() {
+        // Verify the piece still cannot move down before locking
+        // This prevents race conditions where the piece is moved just as the timer
+        // expires
+        if (gameOver || board.canMoveDown()) {
+            stopLockDelay();
+            return;
+        }
+        lockPiece();
+    }
+
+    /**
+     * Gets the board.
+     *
+     * @return The board.
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Gets the score.
+     *
+     * @return The score.
+     */
+    public Score getScore() {
+        return board.getScore();
+    }
+
+    /**
+     * Gets the engine clock.
+     *
+     * @return The elapsed game time in milliseconds.
+     */
+    public long getClock() {
+        return clock;
+    }
+
+    /**
+     * Gets the number of sideways moves and rotations the board accepted.
+     * A move or rotation that leaves this unchanged was blocked and had no
+     * effect on the game.
+     *
+     * @return The count since the engine was created.
+     */
+    public long getMovesApplied() {
+        return movesApplied;
+    }
+
+    /**
+     * Checks if the game is over.
+     *
+     * @return true if game over, false otherwise.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    private DownData downData(ClearRow clearRow) {
+        ViewData viewData = board.getViewData();
+        if (clearRow != null) {
+            return new DownData(clearRow, viewData);
+        }
+        if (plainDownData == null || plainDownData.getViewData() != viewData) {
+            plainDownData = new DownData(null, viewData);
+        }
+        return plainDownData;
+    }
+
+    /**
+     * Starts the lock delay timer.
+     */
+    private void startLockDelay() {
+        lockDelayActive = true;
+        lockResetCount = 0;
+        setLockDeadline();
+    }
+
+    /**
+     * Resets the lock delay timer if the maximum resets haven't been reached.
+     */
+    private void resetLockDelay() {
+        lockResetCount++;
+
+        // Max resets reached, lock tetronimo.
+        if (lockResetCount >= GameConfig.MAX_LOCK_RESETS) {
+            onLockDelayElapsed();
+        } else {
+            setLockDeadline();
+        }
+    }
+
+    /**
+     * Stops the lock delay timer.
+     */
+    private void stopLockDelay() {
+        lockDeadline = NO_DEADLINE;
+        lockDelayActive = false;
+        lockResetCount = 0;
+    }
+
+    // Lock delay is a deadline on the engine clock, checked by advance().
+    private void setLockDeadline() {
+        lockDeadline = clock + GameConfig.LOCK_DELAY_MS;
+    }
+
+    /**
+     * Merges the piece, clears full rows, scores them and spawns the next
+     * piece.
+     *
+     * @return The result of clearing rows.
+     */
+    private ClearRow lockPiece() {
+        stopLockDelay();
+        board.mergeBrickToBackground();
+        return clearRowsAndSpawn();
+    }
+
+    // Runs the rest of a lock once the piece is part of the background.
+    private ClearRow clearRowsAndSpawn() {
+        ClearRow clearRow = board.clearRows();
+        if (clearRow.getLinesRemoved() > 0) {
+            board.getScore().add(clearRow.getScoreBonus());
+        }
+
+        // Create new piece
+        gameOver = board.createNewBrick();
+
+        if (gameEventListener != null) {
+            gameEventListener.onPieceLocked(clearRow);
+            if (gameOver) {
+                gameEventListener.onGameOver();
+            }
+        }
+        return clearRow;
+    }
+}
@@ -0,0 +1,22 @@
+package com.comp2042.engine;
+
+import com.comp2042.model.score.ClearRow;
+
+/**
+ * Interface for observing game events raised by the {@link GameEngine}.
+ */
+public interface GameEventListener {
+
+    /**
+     * Called after a piece has been merged into the board, any full rows have
+     * been cleared and the next piece has been spawned.
+     *
+     * @param clearRow The result of clearing rows.
+     */
+    void onPieceLocked(ClearRow clearRow);
+
+    /**
+     * Called when a new piece cannot be spawned.
+     */
+    void onGameOver();
+}
@@ -0,0 +1,136 @@
+package com.comp2042.input;
+
+/**
+ * Delayed auto-shift state machine for the horizontal movement keys.
+ * A held key shifts the brick once when pressed, again once the DAS delay has
+ * passed, and then once every ARR interval, independently of the operating
+ * system's key repeat. When both keys are held the most recently pressed one
+ * wins. An ARR of 0 shifts the brick all the way to the wall as soon as the
+ * DAS delay has passed.
+ */
+public class AutoShift {
+
+    /** Returned by {@link #update(long)} when the brick should shift as far as it can */
+    public static final int INSTANT = Integer.MAX_VALUE;
+
+    private final int dasMs;
+    private final int arrMs;
+
+    private boolean leftHeld;
+    private boolean rightHeld;
+    private EventType direction;
+    private long heldMs;
+    private long repeats;
+
+    /**
+     * Constructs a new AutoShift.
+     *
+     * @param dasMs The delay in milliseconds before a held key starts
+     *              repeating.
+     * @param arrMs The interval in milliseconds between repeats, or 0 to shift
+     *              instantly.
+     */
+    public AutoShift(int dasMs, int arrMs) {
+        if (dasMs < 0 || arrMs < 0) {
+            throw new IllegalArgumentException("DAS and ARR must not be negative");
+        }
+        this.dasMs = dasMs;
+        this.arrMs = arrMs;
+    }
+
+    /**
+     * Records a key press. The caller performs the initial shift itself.
+     *
+     * @param type {@link EventType#LEFT} or {@link EventType#RIGHT}.
+     */
+    public void press(EventType type) {
+        setHeld(type, true);
+        charge(type);
+    }
+
+    /**
+     * Records a key release. If the opposite key is still held, it takes
+     * over and its delay starts again.
+     *
+     * @param type {@link EventType#LEFT} or {@link EventType#RIGHT}.
+     */
+    public void release(EventType type) {
+        setHeld(type, false);
+        if (type != direction) {
+            return;
+        }
+        EventType other = type == EventType.LEFT ? EventType.RIGHT : EventType.LEFT;
+        if (isHeld(other)) {
+            charge(other);
+        } else {
+            direction = null;
+        }
+    }
+
+    /**
+     * Checks if a key is held.
+     *
+     * @param type {@link EventType#LEFT} or {@link EventType#RIGHT}.
+     * @return true if the key is down, false otherwise.
+     */
+    public boolean isHeld(EventType type) {
+        return type == EventType.LEFT ? leftHeld : rightHeld;
+    }
+
+    /**
+     * Gets the direction that is currently auto-shifting.
+     *
+     * @return {@link EventType#LEFT}, {@link EventType#RIGHT}, or null if no
+     *         key is held.
+     */
+    public EventType getDirection() {
+        return direction;
+    }
+
+    /**
+     * Advances the held time.
+     *
+     * @param elapsedMs The time since the last update in milliseconds.
+     * @return The number of shifts that became due, or {@link #INSTANT}.
+     */
+    public int update(long elapsedMs) {
+        if (direction == null) {
+            return 0;
+        }
+        heldMs += elapsedMs;
+        if (heldMs < dasMs) {
+            return 0;
+        }
+        if (arrMs == 0) {
+            return INSTANT;
+        }
+        // One shift when the delay runs out, then one per repeat interval
+        long due = (heldMs - dasMs) / arrMs + 1;
+        int shifts = (int) (due - repeats);
+        repeats = due;
+        return shifts;
+    }
+
+    /**
+     * Releases both keys, e.g. when the game is paused.
+     */
+    public void reset() {
+        leftHeld = false;
+        rightHeld = false;
+        direction = null;
+    }
+
+    private void charge(EventType type) {
+        direction = type;
+        heldMs = 0;
+        repeats = 0;
+    }
+
+    private void setHeld(EventType type, boolean held) {
+        if (type == EventType.LEFT) {
+            leftHeld = held;
+        } else {
+            rightHeld = held;
+        }
+    }
+}
@@ -4,5 +4,5 @@ package com.comp2042.input;
  * Enumeration of possible sources for game events.
  */
 public enum EventSource {
-    USER, THREAD
+    USER, THREAD, AI
 }
@@ -0,0 +1,76 @@
+package com.comp2042.input;
+
+import com.comp2042.config.GameConfig;
+import com.comp2042.loop.FrameTimeHistogram;
+
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+
+/**
+ * First-in first-out queue of timestamped input events.
+ * Key handlers only record events here; the game loop drains the queue once
+ * per frame, applies every event in order and then renders once, so the
+ * render cost per frame does not grow with the input rate. The time each
+ * event waited in the queue is recorded in a histogram.
+ */
+public class InputQueue {
+
+    private final ArrayDeque<MoveEvent> events = new ArrayDeque<>();
+    private final FrameTimeHistogram latencies = new FrameTimeHistogram(
+            GameConfig.FRAME_HISTOGRAM_BUCKET_US, GameConfig.FRAME_HISTOGRAM_BUCKETS);
+
+    /**
+     * Adds an event to the end of the queue.
+     *
+     * @param event The event.
+     */
+    public void add(MoveEvent event) {
+        events.addLast(event);
+    }
+
+    /**
+     * Applies and removes every queued event, oldest first.
+     *
+     * @param now     The current {@link System#nanoTime()} time, used to
+     *                measure how long timed events waited.
+     * @param handler Applies one event.
+     * @return The number of events applied.
+     */
+    public int drain(long now, Consumer<MoveEvent> handler) {
+        int count = 0;
+        MoveEvent event;
+        while ((event = events.pollFirst()) != null) {
+            if (event.getTimestamp() != 0) {
+                latencies.record(now - event.getTimestamp());
+            }
+            handler.accept(event);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Discards every queued event.
+     */
+    public void clear() {
+        events.clear();
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return true if no events are queued, false otherwise.
+     */
+    public boolean isEmpty() {
+        return events.isEmpty();
+    }
+
+    /**
+     * Gets the time events waited between being queued and being applied.
+     *
+     * @return The input latency histogram.
+     */
+    public FrameTimeHistogram getLatencies() {
+        return latencies;
+    }
+}
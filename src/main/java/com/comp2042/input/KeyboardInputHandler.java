@@ -1,24 +1,42 @@
 package com.comp2042.input;
 
 import com.comp2042.manager.GameStateManager;
+import com.comp2042.manager.SettingsManager;
+import com.comp2042.model.board.BoardView;
 import com.comp2042.model.data.ViewData;
-import com.comp2042.view.renderer.BoardRenderer;
-import com.comp2042.view.renderer.BrickRenderer;
+import com.comp2042.model.settings.KeyBindings;
+import com.comp2042.model.settings.KeyBindings.Action;
 
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.GridPane;
 
+import java.util.function.Consumer;
+
 /**
  * Handles all keyboard input and delegates to appropriate components.
  * Responsible for translating keyboard events into game actions.
+ * Game actions are queued as timestamped events and applied by the game loop
+ * once per frame, which then renders once. Held move keys are repeated by an
+ * {@link AutoShift} advanced by the game loop rather than by the operating
+ * system's key repeat.
  */
 public class KeyboardInputHandler {
+    private static final MoveEvent AUTO_LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent AUTO_RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+
     private InputEventListener eventListener;
     private GameStateManager stateManager;
-    private BrickRenderer brickRenderer;
-    private BoardRenderer boardRenderer;
-    private int[][] currentBoardMatrix;
+    private BoardView boardView;
+    private ViewData viewData;
+    private AutoShift autoShift;
+    // The direction whose last shift was blocked, and the state it was blocked in
+    private EventType blockedDirection;
+    private long blockedViewVersion;
+    private long blockedBoardVersion;
+    private KeyBindings keyBindings;
+    private final InputQueue inputQueue = new InputQueue();
+    private final Consumer<MoveEvent> applyEvent = this::apply;
 
     /**
      * Sets the input event listener.
@@ -39,133 +57,205 @@ public class KeyboardInputHandler {
     }
 
     /**
-     * Sets the brick renderer.
+     * Sets the board, which bounds instant auto-shifts. The view is live, so
+     * it only needs to be set once per board.
      *
-     * @param brickRenderer The renderer for the active brick.
+     * @param boardView The read-only view of the board.
      */
-    public void setBrickRenderer(BrickRenderer brickRenderer) {
-        this.brickRenderer = brickRenderer;
+    public void setBoardView(BoardView boardView) {
+        this.boardView = boardView;
     }
 
     /**
-     * Sets the board renderer.
+     * Sets the view data of the falling brick, which tells whether an
+     * auto-shift moved it. The view data is updated in place, so it only
+     * needs to be set once per board.
      *
-     * @param boardRenderer The renderer for the game board.
+     * @param viewData The board's view data.
      */
-    public void setBoardRenderer(BoardRenderer boardRenderer) {
-        this.boardRenderer = boardRenderer;
-    }
-
-    /**
-     * Updates the current board matrix.
-     *
-     * @param boardMatrix The new state of the board.
-     */
-    public void updateBoardMatrix(int[][] boardMatrix) {
-        this.currentBoardMatrix = boardMatrix;
+    public void setViewData(ViewData viewData) {
+        this.viewData = viewData;
     }
 
     /**
      * Sets up keyboard controls for the game panel.
-     * Requests focus and registers the key press handler.
+     * Requests focus and registers the key press and release handlers.
+     * The auto-shift timing is read from the settings.
      *
      * @param gamePanel The main game panel.
      */
     public void setupKeyboardControls(GridPane gamePanel) {
+        SettingsManager settings = SettingsManager.getInstance();
+        autoShift = new AutoShift(settings.getAutoShiftDelay(), settings.getAutoRepeatRate());
+        // Rebinding updates the lookup table in place, so the reference stays valid
+        keyBindings = settings.getKeyBindings();
         gamePanel.setFocusTraversable(true);
         gamePanel.requestFocus();
         gamePanel.setOnKeyPressed(this::handleKeyPress);
+        gamePanel.setOnKeyReleased(this::handleKeyRelease);
+    }
+
+    /**
+     * Applies every game action queued since the last frame, oldest first.
+     * Called by the game loop once per frame, before the logic steps.
+     */
+    public void processInput() {
+        inputQueue.drain(System.nanoTime(), applyEvent);
+    }
+
+    /**
+     * Gets the queue of pending game actions.
+     *
+     * @return The input queue.
+     */
+    public InputQueue getInputQueue() {
+        return inputQueue;
+    }
+
+    /**
+     * Repeats the held move key. Called by the game loop once per step; the
+     * loop renders the result once per frame.
+     * Once a shift is blocked, the key stops repeating until the brick or
+     * the board changes, so a key held against a wall sends no events.
+     *
+     * @param elapsedMs The time since the last update in milliseconds.
+     */
+    public void update(long elapsedMs) {
+        int shifts = autoShift.update(elapsedMs);
+        if (shifts == 0) {
+            return;
+        }
+        EventType direction = autoShift.getDirection();
+        if (direction == blockedDirection && viewData.getVersion() == blockedViewVersion
+                && boardView.getVersion() == blockedBoardVersion) {
+            return;
+        }
+        boolean left = direction == EventType.LEFT;
+        int limit = Math.min(shifts, boardView.getColumnCount());
+        int x = viewData.getxPosition();
+        for (int i = 0; i < limit; i++) {
+            ViewData shifted = left ? eventListener.onLeftEvent(AUTO_LEFT) : eventListener.onRightEvent(AUTO_RIGHT);
+            // A blocked shift leaves the brick where it was, so stop there
+            if (shifted.getxPosition() == x) {
+                blockedDirection = direction;
+                blockedViewVersion = shifted.getVersion();
+                blockedBoardVersion = boardView.getVersion();
+                return;
+            }
+            x = shifted.getxPosition();
+        }
+        blockedDirection = null;
     }
 
     /**
      * Handles key press events.
-     * Delegates to specific handlers based on game state and key code.
+     * Delegates to specific handlers based on game state and the action bound
+     * to the key.
      *
      * @param keyEvent The key event.
      */
     private void handleKeyPress(KeyEvent keyEvent) {
         KeyCode code = keyEvent.getCode();
+        Action action = keyBindings.getAction(code);
 
         // Game controls (only when not paused/game over)
-        if (!stateManager.isPaused() && !stateManager.isGameOver()) {
-            boolean handled = handleGameControls(code);
+        if (action != null && !stateManager.isPaused() && !stateManager.isGameOver()) {
+            boolean handled = handleGameControls(action);
             if (handled) {
                 keyEvent.consume();
             }
         }
 
         // Universal controls (pause, new game)
-        handleUniversalControls(code);
+        handleUniversalControls(code, action);
     }
 
     /**
-     * Handles game control keys (movement, rotation).
-     * VALIDATION POINT: Uses dynamic keybindings
+     * Handles key release events, ending auto-shift for move keys.
      *
-     * @param code The key code.
-     * @return true if the key was handled, false otherwise.
+     * @param keyEvent The key event.
      */
-    private boolean handleGameControls(KeyCode code) {
-        com.comp2042.model.settings.KeyBindings bindings = com.comp2042.manager.SettingsManager.getInstance()
-                .getKeyBindings();
-
-        // Check each action against current keybindings
-        if (code == bindings.getBinding(com.comp2042.model.settings.KeyBindings.Action.MOVE_LEFT)) {
-            ViewData viewData = eventListener.onLeftEvent(
-                    new MoveEvent(EventType.LEFT, EventSource.USER));
-            refreshBrickWithGhost(viewData);
-            return true;
-        } else if (code == bindings.getBinding(com.comp2042.model.settings.KeyBindings.Action.MOVE_RIGHT)) {
-            ViewData viewData = eventListener.onRightEvent(
-                    new MoveEvent(EventType.RIGHT, EventSource.USER));
-            refreshBrickWithGhost(viewData);
-            return true;
-        } else if (code == bindings.getBinding(com.comp2042.model.settings.KeyBindings.Action.MOVE_DOWN)) {
-            stateManager.moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
-            return true;
-        } else if (code == bindings.getBinding(com.comp2042.model.settings.KeyBindings.Action.ROTATE)) {
-            ViewData viewData = eventListener.onRotateEvent(
-                    new MoveEvent(EventType.ROTATE, EventSource.USER));
-            refreshBrickWithGhost(viewData);
-            return true;
-        } else if (code == bindings.getBinding(com.comp2042.model.settings.KeyBindings.Action.FAST_DROP)) {
-            stateManager.handleFastDrop(eventListener.onFastDropEvent(
-                    new MoveEvent(EventType.FAST_DROP, EventSource.USER)));
-            return true;
+    private void handleKeyRelease(KeyEvent keyEvent) {
+        Action action = keyBindings.getAction(keyEvent.getCode());
+        if (action == Action.MOVE_LEFT) {
+            autoShift.release(EventType.LEFT);
+        } else if (action == Action.MOVE_RIGHT) {
+            autoShift.release(EventType.RIGHT);
         }
-
-        return false;
     }
 
     /**
-     * Refreshes the brick display, including the ghost preview.
+     * Handles game control actions (movement, rotation) by queueing them for
+     * the next frame.
+     * VALIDATION POINT: Uses dynamic keybindings
      *
-     * @param viewData The current view data of the brick.
+     * @param action The action bound to the pressed key.
+     * @return true if the action was handled, false otherwise.
      */
-    private void refreshBrickWithGhost(ViewData viewData) {
-        if (currentBoardMatrix != null) {
-            // First refresh the board to clear old ghost
-            boardRenderer.refresh(currentBoardMatrix);
-            // Then refresh brick with new ghost
-            brickRenderer.refreshWithGhost(viewData, currentBoardMatrix);
-        } else {
-            // Fallback if board matrix not available
-            brickRenderer.refresh(viewData);
+    private boolean handleGameControls(Action action) {
+        switch (action) {
+            case MOVE_LEFT -> {
+                // Ignore the operating system's key repeat; auto-shift handles held keys
+                if (!autoShift.isHeld(EventType.LEFT)) {
+                    autoShift.press(EventType.LEFT);
+                    queue(EventType.LEFT);
+                }
+                return true;
+            }
+            case MOVE_RIGHT -> {
+                if (!autoShift.isHeld(EventType.RIGHT)) {
+                    autoShift.press(EventType.RIGHT);
+                    queue(EventType.RIGHT);
+                }
+                return true;
+            }
+            case MOVE_DOWN -> {
+                queue(EventType.DOWN);
+                return true;
+            }
+            case ROTATE -> {
+                queue(EventType.ROTATE);
+                return true;
+            }
+            case FAST_DROP -> {
+                queue(EventType.FAST_DROP);
+                return true;
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+
+    private void queue(EventType type) {
+        inputQueue.add(new MoveEvent(type, EventSource.USER, System.nanoTime()));
+    }
+
+    // Forwards one queued event to the game; the loop renders the result.
+    private void apply(MoveEvent event) {
+        switch (event.getEventType()) {
+            case LEFT -> eventListener.onLeftEvent(event);
+            case RIGHT -> eventListener.onRightEvent(event);
+            case ROTATE -> eventListener.onRotateEvent(event);
+            case DOWN -> eventListener.onDownEvent(event);
+            case FAST_DROP -> eventListener.onFastDropEvent(event);
         }
     }
 
     /**
      * Handles universal control keys (pause, new game).
      * 
-     * @param code The key code.
+     * @param code   The key code.
+     * @param action The action bound to the key, or null.
      */
-    private void handleUniversalControls(KeyCode code) {
-        com.comp2042.model.settings.KeyBindings bindings = com.comp2042.manager.SettingsManager.getInstance()
-                .getKeyBindings();
-
+    private void handleUniversalControls(KeyCode code, Action action) {
         if (code == KeyCode.N) {
+            autoShift.reset();
+            inputQueue.clear();
             stateManager.newGame();
-        } else if (code == bindings.getBinding(com.comp2042.model.settings.KeyBindings.Action.PAUSE)) {
+        } else if (action == Action.PAUSE) {
+            autoShift.reset();
+            inputQueue.clear();
             stateManager.togglePause();
         }
     }
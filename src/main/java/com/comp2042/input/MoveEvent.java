@@ -2,21 +2,35 @@ package com.comp2042.input;
 
 /**
  * Represents a game movement event.
- * Encapsulates the type of event and its source.
+ * Encapsulates the type of event, its source and when it happened.
  */
 public final class MoveEvent {
     private final EventType eventType;
     private final EventSource eventSource;
+    private final long timestamp;
 
     /**
-     * Constructs a new MoveEvent.
+     * Constructs a new MoveEvent without a timestamp.
      *
      * @param eventType   The type of the event.
      * @param eventSource The source of the event.
      */
     public MoveEvent(EventType eventType, EventSource eventSource) {
+        this(eventType, eventSource, 0);
+    }
+
+    /**
+     * Constructs a new MoveEvent.
+     *
+     * @param eventType   The type of the event.
+     * @param eventSource The source of the event.
+     * @param timestamp   When the event happened, in {@link System#nanoTime()}
+     *                    nanoseconds.
+     */
+    public MoveEvent(EventType eventType, EventSource eventSource, long timestamp) {
         this.eventType = eventType;
         this.eventSource = eventSource;
+        this.timestamp = timestamp;
     }
 
     /**
@@ -36,4 +50,14 @@ public final class MoveEvent {
     public EventSource getEventSource() {
         return eventSource;
     }
+
+    /**
+     * Gets the time the event happened.
+     *
+     * @return The {@link System#nanoTime()} timestamp, or 0 if the event is
+     *         not timed.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
 }
@@ -0,0 +1,135 @@
+package com.comp2042.loop;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of durations with fixed-width buckets.
+ * Recording is a division and an array increment, so it can run every frame
+ * without allocating. Percentiles are accurate to one bucket width.
+ */
+public class FrameTimeHistogram {
+
+    private final long bucketWidthNanos;
+    private final long[] counts;
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Constructs a new FrameTimeHistogram.
+     *
+     * @param bucketWidthMicros The width of one bucket in microseconds.
+     * @param bucketCount       The number of buckets; longer durations are
+     *                          counted in the last bucket.
+     */
+    public FrameTimeHistogram(int bucketWidthMicros, int bucketCount) {
+        if (bucketWidthMicros < 1 || bucketCount < 1) {
+            throw new IllegalArgumentException("Bucket width and count must be positive");
+        }
+        this.bucketWidthNanos = bucketWidthMicros * 1000L;
+        this.counts = new long[bucketCount];
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos The duration in nanoseconds.
+     */
+    public void record(long nanos) {
+        long bucket = Math.max(0, nanos) / bucketWidthNanos;
+        counts[(int) Math.min(bucket, counts.length - 1)]++;
+        count++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+    }
+
+    /**
+     * Gets the number of recorded durations.
+     *
+     * @return The sample count.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the mean recorded duration.
+     *
+     * @return The mean in nanoseconds, or 0 if nothing was recorded.
+     */
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    /**
+     * Gets the longest recorded duration.
+     *
+     * @return The maximum in nanoseconds.
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Gets the duration below which the given fraction of samples fall.
+     *
+     * @param fraction The fraction, from 0.0 to 1.0.
+     * @return The upper edge of the bucket holding the percentile, in
+     *         nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getPercentileNanos(double fraction) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(fraction * count);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank && seen > 0) {
+                return i == counts.length - 1 ? maxNanos : (i + 1) * bucketWidthNanos;
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Gets the number of samples in a bucket.
+     *
+     * @param bucket The bucket index.
+     * @return The sample count of the bucket.
+     */
+    public long getCount(int bucket) {
+        return counts[bucket];
+    }
+
+    /**
+     * Gets the number of buckets.
+     *
+     * @return The bucket count.
+     */
+    public int getBucketCount() {
+        return counts.length;
+    }
+
+    /**
+     * Clears all recorded durations.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+    /**
+     * Summarises the histogram in milliseconds.
+     *
+     * @return The sample count, mean, median, 99th percentile and maximum.
+     */
+    @Override
+    public String toString() {
+        return String.format("n=%d mean=%.3fms p50=%.1fms p99=%.1fms max=%.3fms",
+                count, getMeanNanos() / 1e6, getPercentileNanos(0.5) / 1e6,
+                getPercentileNanos(0.99) / 1e6, maxNanos / 1e6);
+    }
+}
@@ -0,0 +1,153 @@
+package com.comp2042.loop;
+
+import com.comp2042.config.GameConfig;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Fixed-timestep game loop driven by the JavaFX pulse.
+ * Each frame first applies the input queued since the last frame. Real time
+ * is then collected in an accumulator and the game logic is advanced in whole
+ * steps of {@link GameConfig#LOGIC_STEP_MS}, so game timing depends only on
+ * elapsed time and not on the frame rate or on late pulses. The scene is
+ * rendered once per frame after the logic has caught up.
+ *
+ * <p>Logic time (input and steps), render time and the interval between
+ * frames are recorded in histograms to show where the frame budget goes.
+ */
+public class GameLoop extends AnimationTimer {
+
+    private static final long NANOS_PER_MS = 1_000_000L;
+
+    private final Runnable input;
+    private final LongConsumer update;
+    private final Runnable render;
+    private final long stepNanos;
+    private final long maxFrameNanos;
+
+    private final FrameTimeHistogram logicTimes = createHistogram();
+    private final FrameTimeHistogram renderTimes = createHistogram();
+    private final FrameTimeHistogram frameIntervals = createHistogram();
+
+    private long lastFrameTime;
+    private long accumulator;
+    private boolean running;
+
+    /**
+     * Constructs a new GameLoop.
+     *
+     * @param input  Applies the queued input; called once per frame.
+     * @param update Advances the game logic by the given number of
+     *               milliseconds; called once per fixed step.
+     * @param render Draws the current game state; called once per frame.
+     */
+    public GameLoop(Runnable input, LongConsumer update, Runnable render) {
+        this.input = input;
+        this.update = update;
+        this.render = render;
+        this.stepNanos = GameConfig.LOGIC_STEP_MS * NANOS_PER_MS;
+        this.maxFrameNanos = GameConfig.MAX_FRAME_TIME_MS * NANOS_PER_MS;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Time spent stopped is not caught up on when the loop starts again.
+     */
+    @Override
+    public void start() {
+        lastFrameTime = 0;
+        accumulator = 0;
+        running = true;
+        super.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        running = false;
+        super.stop();
+    }
+
+    /**
+     * Runs one frame: the queued input, every due logic step, then a render.
+     *
+     * @param now The timestamp of the current frame in nanoseconds.
+     */
+    @Override
+    public void handle(long now) {
+        // The first frame after starting only sets the time base
+        if (lastFrameTime != 0) {
+            long elapsed = now - lastFrameTime;
+            frameIntervals.record(elapsed);
+            // After a long stall drop the backlog instead of replaying it all at once
+            accumulator += Math.min(elapsed, maxFrameNanos);
+        }
+        lastFrameTime = now;
+
+        long logicStart = System.nanoTime();
+        input.run();
+        while (accumulator >= stepNanos && running) {
+            update.accept(GameConfig.LOGIC_STEP_MS);
+            accumulator -= stepNanos;
+        }
+        long renderStart = System.nanoTime();
+        render.run();
+        long renderEnd = System.nanoTime();
+
+        logicTimes.record(renderStart - logicStart);
+        renderTimes.record(renderEnd - renderStart);
+    }
+
+    /**
+     * Checks if the loop is running.
+     *
+     * @return true if started and not stopped, false otherwise.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets the time spent advancing the game logic per frame.
+     *
+     * @return The logic time histogram.
+     */
+    public FrameTimeHistogram getLogicTimes() {
+        return logicTimes;
+    }
+
+    /**
+     * Gets the time spent updating the scene per frame.
+     *
+     * @return The render time histogram.
+     */
+    public FrameTimeHistogram getRenderTimes() {
+        return renderTimes;
+    }
+
+    /**
+     * Gets the time between consecutive frames.
+     *
+     * @return The frame interval histogram.
+     */
+    public FrameTimeHistogram getFrameIntervals() {
+        return frameIntervals;
+    }
+
+    /**
+     * Clears all frame time histograms.
+     */
+    public void resetStats() {
+        logicTimes.reset();
+        renderTimes.reset();
+        frameIntervals.reset();
+    }
+
+    private static FrameTimeHistogram createHistogram() {
+        return new FrameTimeHistogram(GameConfig.FRAME_HISTOGRAM_BUCKET_US, GameConfig.FRAME_HISTOGRAM_BUCKETS);
+    }
+}
@@ -2,35 +2,34 @@ package com.comp2042.manager;
 
 import com.comp2042.controller.GuiController;
 import com.comp2042.input.InputEventListener;
-import com.comp2042.input.MoveEvent;
-import com.comp2042.model.data.DownData;
+import com.comp2042.loop.GameLoop;
+import com.comp2042.model.board.BoardView;
+import com.comp2042.model.data.ViewData;
 import com.comp2042.view.panel.GameOverPanel;
-import com.comp2042.view.renderer.BoardRenderer;
-import com.comp2042.view.renderer.BrickRenderer;
+import com.comp2042.view.renderer.NextBrickRenderer;
+import com.comp2042.view.renderer.PlayfieldRenderer;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.scene.layout.GridPane;
-import javafx.util.Duration;
+
+import java.util.function.LongConsumer;
 
 /**
- * Manages game state including pause, game over, and game timeline.
+ * Manages game state including pause, game over, and the game loop.
  * Responsible for controlling game flow and state transitions.
  */
 public class GameStateManager {
 
     private final BooleanProperty isPause = new SimpleBooleanProperty();
     private final BooleanProperty isGameOver = new SimpleBooleanProperty();
-    private Timeline timeLine;
+    private GameLoop gameLoop;
     private GridPane gamePanel;
     private GameOverPanel gameOverPanel;
     private InputEventListener eventListener;
-    private NotificationManager notificationManager;
-    private BrickRenderer brickRenderer;
-    private BoardRenderer boardRenderer;
-    private int[][] currentBoardMatrix;
+    private PlayfieldRenderer playfieldRenderer;
+    private NextBrickRenderer nextBrickRenderer;
+    private BoardView boardView;
     private GuiController guiController;
 
     /**
@@ -52,30 +51,21 @@ public class GameStateManager {
     }
 
     /**
-     * Sets the notification manager.
-     * 
-     * @param notificationManager The manager for displaying notifications.
-     */
-    public void setNotificationManager(NotificationManager notificationManager) {
-        this.notificationManager = notificationManager;
-    }
-
-    /**
-     * Sets the brick renderer.
+     * Sets the playfield renderer.
      * 
-     * @param brickRenderer The renderer for the active brick.
+     * @param playfieldRenderer The renderer for the board and active brick.
      */
-    public void setBrickRenderer(BrickRenderer brickRenderer) {
-        this.brickRenderer = brickRenderer;
+    public void setPlayfieldRenderer(PlayfieldRenderer playfieldRenderer) {
+        this.playfieldRenderer = playfieldRenderer;
     }
 
     /**
-     * Sets the board renderer.
+     * Sets the next brick renderer.
      * 
-     * @param boardRenderer The renderer for the game board.
+     * @param nextBrickRenderer The renderer for the next brick preview.
      */
-    public void setBoardRenderer(BoardRenderer boardRenderer) {
-        this.boardRenderer = boardRenderer;
+    public void setNextBrickRenderer(NextBrickRenderer nextBrickRenderer) {
+        this.nextBrickRenderer = nextBrickRenderer;
     }
 
     /**
@@ -88,85 +78,66 @@ public class GameStateManager {
     }
 
     /**
-     * Updates the current board matrix.
-     * 
-     * @param boardMatrix The new state of the board.
+     * Sets the board to draw. The view is live, so it only needs to be set
+     * once per board.
+     *
+     * @param boardView The read-only view of the board.
      */
-    public void updateBoardMatrix(int[][] boardMatrix) {
-        this.currentBoardMatrix = boardMatrix;
+    public void setBoardView(BoardView boardView) {
+        this.boardView = boardView;
     }
 
     /**
-     * Sets up the game timeline (game loop).
-     * Uses difficulty-based tick rate.
+     * Sets up and starts the game loop.
+     * Each frame the loop applies the queued input, advances the game clock
+     * in fixed steps, which applies gravity and lock delay, and redraws the
+     * brick once.
      *
      * @param gamePanel The main game panel.
-     * @param onTick    The runnable to execute on each game tick.
+     * @param input     Applies the input queued since the last frame.
+     * @param advance   Advances the game clock by a number of milliseconds.
      */
-    public void setupTimeline(GridPane gamePanel, Runnable onTick) {
+    public void setupGameLoop(GridPane gamePanel, Runnable input, LongConsumer advance) {
         this.gamePanel = gamePanel;
-        // Get tick duration from current difficulty setting
-        int tickDuration = SettingsManager.getInstance().getDifficulty().getTickDurationMs();
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(tickDuration),
-                ae -> onTick.run()));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
-    }
-
-    /**
-     * Handles the move down logic.
-     * Checks if the game is paused before processing the move.
-     * 
-     * @param event The move event.
-     */
-    public void moveDown(MoveEvent event) {
-        if (!isPause.get()) {
-            DownData downData = eventListener.onDownEvent(event);
-            handleDownData(downData);
-        }
-        gamePanel.requestFocus();
+        gameLoop = new GameLoop(input, advance, this::render);
+        gameLoop.start();
     }
 
     /**
-     * Handles a fast drop action.
-     * 
-     * @param downData The result of the fast drop.
+     * Gets the game loop, for its frame time statistics.
+     *
+     * @return The game loop, or null before the game view is set up.
      */
-    public void handleFastDrop(DownData downData) {
-        handleDownData(downData);
+    public GameLoop getGameLoop() {
+        return gameLoop;
     }
 
-    private void handleDownData(DownData downData) {
-        if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-            notificationManager.showScoreNotification(downData.getClearRow().getScoreBonus());
-        }
-
-        // Refresh with ghost if we have board matrix
-        if (currentBoardMatrix != null) {
-            boardRenderer.refresh(currentBoardMatrix);
-            brickRenderer.refreshWithGhost(downData.getViewData(), currentBoardMatrix);
-        } else {
-            brickRenderer.refresh(downData.getViewData());
+    // Renderers skip the work when neither the brick nor the board changed.
+    private void render() {
+        ViewData viewData = playfieldRenderer.getCurrentViewData();
+        if (viewData != null) {
+            playfieldRenderer.refresh(viewData, boardView);
+            nextBrickRenderer.refresh(viewData.getNextBrickShape());
         }
     }
 
     /**
      * Triggers the game over state.
-     * Stops the timeline and shows the game over panel.
+     * Stops the game loop and shows the game over panel.
      */
     public void gameOver() {
-        timeLine.stop();
+        gameLoop.stop();
         gameOverPanel.setVisible(true);
         isGameOver.set(true);
     }
 
     /**
      * Starts a new game.
-     * Resets the game state, hides the game over panel, and restarts the timeline.
+     * Resets the game state, hides the game over panel, and restarts the game
+     * loop.
      */
     public void newGame() {
-        timeLine.stop();
+        gameLoop.stop();
         gameOverPanel.setVisible(false);
         // Hide resume panel when starting new game
         if (guiController != null) {
@@ -174,14 +145,15 @@ public class GameStateManager {
         }
         eventListener.createNewGame();
         gamePanel.requestFocus();
-        timeLine.play();
+        gameLoop.resetStats();
+        gameLoop.start();
         isPause.set(false);
         isGameOver.set(false);
     }
 
     /**
      * Toggles the pause state of the game.
-     * Stops or plays the timeline accordingly.
+     * Stops or starts the game loop accordingly.
      */
     public void togglePause() {
         if (isPause.get()) {
@@ -189,14 +161,14 @@ public class GameStateManager {
             if (guiController != null) {
                 guiController.hideResumePanel();
             }
-            timeLine.play();
+            gameLoop.start();
             isPause.set(false);
         } else {
             // Pausing game - show resume panel
             if (guiController != null) {
                 guiController.showResumePanel();
             }
-            timeLine.stop();
+            gameLoop.stop();
             isPause.set(true);
         }
         gamePanel.requestFocus();
@@ -1,16 +1,22 @@
 package com.comp2042.manager;
 
+import com.comp2042.config.GameConfig;
 import com.comp2042.model.settings.DifficultyMode;
 import com.comp2042.model.settings.KeyBindings;
+import com.comp2042.model.settings.RandomizerMode;
+import com.comp2042.model.settings.RenderMode;
 import javafx.beans.property.*;
 import javafx.scene.input.KeyCode;
 
 import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
+import java.util.StringJoiner;
 
 /**
  * Singleton class managing all game settings.
- * Handles music, difficulty, keybindings, and persistence.
+ * Handles music, difficulty, rendering, keybindings, and persistence.
  */
 public class SettingsManager {
 
@@ -20,6 +26,11 @@ public class SettingsManager {
     // Observable properties
     private final BooleanProperty musicMuted = new SimpleBooleanProperty(false);
     private final ObjectProperty<DifficultyMode> difficulty = new SimpleObjectProperty<>(DifficultyMode.NORMAL);
+    private final ObjectProperty<RenderMode> renderMode = new SimpleObjectProperty<>(RenderMode.NODES);
+    private final ObjectProperty<RandomizerMode> randomizer = new SimpleObjectProperty<>(RandomizerMode.UNIFORM);
+    private final IntegerProperty autoShiftDelay = new SimpleIntegerProperty(GameConfig.DEFAULT_DAS_MS);
+    private final IntegerProperty autoRepeatRate = new SimpleIntegerProperty(GameConfig.DEFAULT_ARR_MS);
+    private final BooleanProperty recordReplays = new SimpleBooleanProperty(false);
     private final KeyBindings keyBindings = new KeyBindings();
 
     private SettingsManager() {
@@ -54,6 +65,29 @@ public class SettingsManager {
         difficulty.addListener((obs, oldVal, newVal) -> {
             saveSettings();
         });
+
+        // Save render mode changes
+        renderMode.addListener((obs, oldVal, newVal) -> {
+            saveSettings();
+        });
+
+        // Save randomizer changes
+        randomizer.addListener((obs, oldVal, newVal) -> {
+            saveSettings();
+        });
+
+        // Save auto-shift timing changes
+        autoShiftDelay.addListener((obs, oldVal, newVal) -> {
+            saveSettings();
+        });
+        autoRepeatRate.addListener((obs, oldVal, newVal) -> {
+            saveSettings();
+        });
+
+        // Save replay recording changes
+        recordReplays.addListener((obs, oldVal, newVal) -> {
+            saveSettings();
+        });
     }
 
     /**
@@ -79,15 +113,43 @@ public class SettingsManager {
                     difficulty.set(DifficultyMode.NORMAL);
                 }
 
-                // Load keybindings
+                // Load render mode
+                String renderStr = props.getProperty("renderMode", "NODES");
+                try {
+                    renderMode.set(RenderMode.valueOf(renderStr));
+                } catch (IllegalArgumentException e) {
+                    renderMode.set(RenderMode.NODES);
+                }
+
+                // Load randomizer
+                String randomizerStr = props.getProperty("randomizer", "UNIFORM");
+                try {
+                    randomizer.set(RandomizerMode.valueOf(randomizerStr));
+                } catch (IllegalArgumentException e) {
+                    randomizer.set(RandomizerMode.UNIFORM);
+                }
+
+                // Load auto-shift timing
+                autoShiftDelay.set(loadInt(props, "autoShiftDelay", GameConfig.DEFAULT_DAS_MS, GameConfig.MAX_DAS_MS));
+                autoRepeatRate.set(loadInt(props, "autoRepeatRate", GameConfig.DEFAULT_ARR_MS, GameConfig.MAX_ARR_MS));
+
+                // Load replay recording
+                recordReplays.set(Boolean.parseBoolean(props.getProperty("recordReplays", "false")));
+
+                // Load keybindings, stored as comma-separated key names
                 for (KeyBindings.Action action : KeyBindings.Action.values()) {
-                    String keyName = props.getProperty("key." + action.name());
-                    if (keyName != null) {
-                        try {
-                            KeyCode keyCode = KeyCode.valueOf(keyName);
-                            keyBindings.setBinding(action, keyCode);
-                        } catch (IllegalArgumentException e) {
-                            // Keep default
+                    String keyNames = props.getProperty("key." + action.name());
+                    if (keyNames != null) {
+                        List<KeyCode> keyCodes = new ArrayList<>();
+                        for (String keyName : keyNames.split(",")) {
+                            try {
+                                keyCodes.add(KeyCode.valueOf(keyName.trim()));
+                            } catch (IllegalArgumentException e) {
+                                // Skip unknown keys
+                            }
+                        }
+                        if (!keyCodes.isEmpty()) {
+                            keyBindings.setBindings(action, keyCodes);
                         }
                     }
                 }
@@ -97,6 +159,16 @@ public class SettingsManager {
         }
     }
 
+    // Reads a non-negative int property, falling back to the default if invalid.
+    private static int loadInt(Properties props, String key, int defaultValue, int max) {
+        try {
+            int value = Integer.parseInt(props.getProperty(key, String.valueOf(defaultValue)));
+            return value >= 0 && value <= max ? value : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
     /**
      * Saves settings to file.
      */
@@ -105,12 +177,21 @@ public class SettingsManager {
             Properties props = new Properties();
             props.setProperty("musicMuted", String.valueOf(musicMuted.get()));
             props.setProperty("difficulty", difficulty.get().name());
+            props.setProperty("renderMode", renderMode.get().name());
+            props.setProperty("randomizer", randomizer.get().name());
+            props.setProperty("autoShiftDelay", String.valueOf(autoShiftDelay.get()));
+            props.setProperty("autoRepeatRate", String.valueOf(autoRepeatRate.get()));
+            props.setProperty("recordReplays", String.valueOf(recordReplays.get()));
 
             // Save keybindings
             for (KeyBindings.Action action : KeyBindings.Action.values()) {
-                KeyCode keyCode = keyBindings.getBinding(action);
-                if (keyCode != null) {
-                    props.setProperty("key." + action.name(), keyCode.name());
+                List<KeyCode> keyCodes = keyBindings.getBindings(action);
+                if (!keyCodes.isEmpty()) {
+                    StringJoiner keyNames = new StringJoiner(",");
+                    for (KeyCode keyCode : keyCodes) {
+                        keyNames.add(keyCode.name());
+                    }
+                    props.setProperty("key." + action.name(), keyNames.toString());
                 }
             }
 
@@ -131,6 +212,26 @@ public class SettingsManager {
         return difficulty;
     }
 
+    public ObjectProperty<RenderMode> renderModeProperty() {
+        return renderMode;
+    }
+
+    public ObjectProperty<RandomizerMode> randomizerProperty() {
+        return randomizer;
+    }
+
+    public IntegerProperty autoShiftDelayProperty() {
+        return autoShiftDelay;
+    }
+
+    public IntegerProperty autoRepeatRateProperty() {
+        return autoRepeatRate;
+    }
+
+    public BooleanProperty recordReplaysProperty() {
+        return recordReplays;
+    }
+
     public KeyBindings getKeyBindings() {
         return keyBindings;
     }
@@ -151,4 +252,44 @@ public class SettingsManager {
     public void setDifficulty(DifficultyMode mode) {
         difficulty.set(mode);
     }
+
+    public RenderMode getRenderMode() {
+        return renderMode.get();
+    }
+
+    public void setRenderMode(RenderMode mode) {
+        renderMode.set(mode);
+    }
+
+    public RandomizerMode getRandomizer() {
+        return randomizer.get();
+    }
+
+    public void setRandomizer(RandomizerMode mode) {
+        randomizer.set(mode);
+    }
+
+    public int getAutoShiftDelay() {
+        return autoShiftDelay.get();
+    }
+
+    public void setAutoShiftDelay(int delayMs) {
+        autoShiftDelay.set(delayMs);
+    }
+
+    public int getAutoRepeatRate() {
+        return autoRepeatRate.get();
+    }
+
+    public void setAutoRepeatRate(int rateMs) {
+        autoRepeatRate.set(rateMs);
+    }
+
+    public boolean isRecordReplays() {
+        return recordReplays.get();
+    }
+
+    public void setRecordReplays(boolean record) {
+        recordReplays.set(record);
+    }
 }
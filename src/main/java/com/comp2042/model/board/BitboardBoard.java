@@ -0,0 +1,367 @@
+package com.comp2042.model.board;
+
+import com.comp2042.config.GameConfig;
+import com.comp2042.model.brick.Brick;
+import com.comp2042.model.brick.BrickGenerator;
+import com.comp2042.model.brick.BrickRotator;
+import com.comp2042.model.brick.BrickShape;
+import com.comp2042.model.brick.RandomBrickGenerator;
+import com.comp2042.model.data.ViewData;
+import com.comp2042.model.score.ClearRow;
+import com.comp2042.model.score.Score;
+
+import java.util.Arrays;
+import java.util.function.IntSupplier;
+
+/**
+ * Bitboard implementation of the Board interface.
+ * Stores every row as a bitmask of occupied columns, with a parallel colour
+ * plane for rendering. Collision is a few AND operations per brick row, full
+ * rows are a single compare and line clears only shift row references.
+ */
+public class BitboardBoard implements Board {
+
+    private static final int TETRONIMO_STARTPOS_X = GameConfig.TETROMINO_START_X;
+    private static final int MAX_COLUMNS = Integer.SIZE - 1;
+
+    private final int rows;
+    private final int columns;
+    private final int fullRowMask;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private final Score score;
+    private final IntSupplier spawnRow;
+
+    // Bit c of rowMasks[r] is set when cell (r, c) is occupied.
+    private final int[] rowMasks;
+    private final int[][] colours;
+    // False for colour rows shared with a snapshot, which are copied before writing.
+    private final boolean[] rowOwned;
+    private final int[] clearedRows;
+    private final ColumnProfile columnProfile;
+    private final BoardView boardView = new View();
+    private final ViewData viewData = new ViewData();
+    private long version;
+    private long hash;
+
+    private int currentX;
+    private int currentY;
+
+    /**
+     * Constructs a new BitboardBoard.
+     * Takes the same arguments as {@link SimpleBoard}.
+     *
+     * @param rows    The number of rows of the board.
+     * @param columns The number of columns of the board.
+     */
+    public BitboardBoard(int rows, int columns) {
+        this(rows, columns, new RandomBrickGenerator(),
+                () -> com.comp2042.manager.SettingsManager.getInstance().getDifficulty().getSpawnYPosition());
+    }
+
+    /**
+     * Constructs a new BitboardBoard with an explicit brick source and spawn
+     * height, so the board can run without the settings manager.
+     *
+     * @param rows           The number of rows of the board.
+     * @param columns        The number of columns of the board.
+     * @param brickGenerator The generator that supplies new bricks.
+     * @param spawnRow       Supplies the row new bricks spawn at.
+     */
+    public BitboardBoard(int rows, int columns, BrickGenerator brickGenerator, IntSupplier spawnRow) {
+        if (columns > MAX_COLUMNS) {
+            throw new IllegalArgumentException("Bitboard rows support at most " + MAX_COLUMNS + " columns");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.fullRowMask = (1 << columns) - 1;
+        rowMasks = new int[rows];
+        colours = new int[rows][columns];
+        rowOwned = new boolean[rows];
+        Arrays.fill(rowOwned, true);
+        clearedRows = new int[rows];
+        columnProfile = new ColumnProfile(rows, columns);
+        this.brickGenerator = brickGenerator;
+        this.spawnRow = spawnRow;
+        brickRotator = new BrickRotator();
+        score = new Score();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean moveBrickDown() {
+        return moveBrick(0, 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean moveBrickLeft() {
+        return moveBrick(-1, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean moveBrickRight() {
+        return moveBrick(1, 0);
+    }
+
+    private boolean moveBrick(int dx, int dy) {
+        if (intersects(brickRotator.getCurrentBrickShape(), currentX + dx, currentY + dy)) {
+            return false;
+        }
+        currentX += dx;
+        currentY += dy;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextShape = brickRotator.getNextShapeIndex();
+        if (intersects(brickRotator.getBrickShape(nextShape), currentX, currentY)) {
+            return false;
+        }
+        brickRotator.setCurrentShape(nextShape);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canMoveDown() {
+        return !intersects(brickRotator.getCurrentBrickShape(), currentX, currentY + 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean createNewBrick() {
+        Brick currentBrick = brickGenerator.getBrick();
+        brickRotator.setBrick(currentBrick);
+        currentX = TETRONIMO_STARTPOS_X;
+        currentY = spawnRow.getAsInt();
+        return intersects(brickRotator.getCurrentBrickShape(), currentX, currentY);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void mergeBrickToBackground() {
+        BrickShape shape = brickRotator.getCurrentBrickShape();
+        for (int r = shape.getMinY(); r <= shape.getMaxY(); r++) {
+            ownRow(currentY + r);
+        }
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int row = currentY + shape.getCellY(i);
+            int col = currentX + shape.getCellX(i);
+            rowMasks[row] |= 1 << col;
+            colours[row][col] = shape.getBrickId();
+            hash ^= ZobristKeys.cell(row, col);
+        }
+        columnProfile.brickMerged(shape, currentX, currentY);
+        version++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ClearRow clearRows() {
+        // Compact kept rows towards the bottom, recycling cleared rows at the top
+        int clearedRowCount = 0;
+        int writeRow = rows - 1;
+        for (int readRow = rows - 1; readRow >= 0; readRow--) {
+            if (rowMasks[readRow] == fullRowMask) {
+                clearedRows[clearedRowCount++] = readRow;
+                continue;
+            }
+            if (writeRow != readRow) {
+                int[] recycled = colours[writeRow];
+                colours[writeRow] = colours[readRow];
+                colours[readRow] = recycled;
+                boolean recycledOwned = rowOwned[writeRow];
+                rowOwned[writeRow] = rowOwned[readRow];
+                rowOwned[readRow] = recycledOwned;
+                rowMasks[writeRow] = rowMasks[readRow];
+            }
+            writeRow--;
+        }
+        for (int row = writeRow; row >= 0; row--) {
+            rowMasks[row] = 0;
+            if (rowOwned[row]) {
+                Arrays.fill(colours[row], 0);
+            } else {
+                colours[row] = new int[columns];
+                rowOwned[row] = true;
+            }
+        }
+        columnProfile.rowsCleared(colours, clearedRowCount);
+        if (clearedRowCount > 0) {
+            // Kept rows have moved down; rows above the stack are empty and hash to 0
+            hash = RowMasks.hash(rowMasks, rows - columnProfile.getMaxHeight());
+            version++;
+        }
+        return new ClearRow(clearedRowCount, clearedRows, null, MatrixOperations.scoreBonus(clearedRowCount));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hardDrop() {
+        int landingY = calculateGhostPosition();
+        int distance = landingY - currentY;
+        currentY = landingY;
+        mergeBrickToBackground();
+        return distance;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SurfaceProfile getSurfaceProfile() {
+        return columnProfile;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        return MatrixOperations.copy(colours);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BoardView getBoardView() {
+        return boardView;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Marks every colour row as shared, so the next writes to it copy it
+     * first. The row masks are not shared: the snapshot reads the colours.
+     */
+    @Override
+    public BoardSnapshot snapshot() {
+        Arrays.fill(rowOwned, false);
+        return new BoardSnapshot(colours.clone(), columns, hash, version, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ViewData getViewData() {
+        int ghostY = calculateGhostPosition();
+        viewData.update(brickRotator.getCurrentBrickShape(), currentX, currentY,
+                brickGenerator.getNextBrick().getShapes().get(0), ghostY);
+        return viewData;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void newGame() {
+        Arrays.fill(rowMasks, 0);
+        for (int row = 0; row < rows; row++) {
+            if (rowOwned[row]) {
+                Arrays.fill(colours[row], 0);
+            } else {
+                colours[row] = new int[columns];
+                rowOwned[row] = true;
+            }
+        }
+        columnProfile.rebuild(colours);
+        hash = 0;
+        version++;
+        score.reset();
+        createNewBrick();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getHash() {
+        return hash;
+    }
+
+    // Lands on the column surface, or walks down when the brick is under an overhang.
+    private int calculateGhostPosition() {
+        BrickShape shape = brickRotator.getCurrentBrickShape();
+        int ghostY = columnProfile.landingRow(shape, currentX);
+        if (ghostY >= currentY) {
+            return ghostY;
+        }
+        ghostY = currentY;
+        while (!intersects(shape, currentX, ghostY + 1)) {
+            ghostY++;
+        }
+        return ghostY;
+    }
+
+    private boolean intersects(BrickShape shape, int x, int y) {
+        return RowMasks.intersects(rowMasks, columns, shape, x, y);
+    }
+
+    // Copies a colour row shared with a snapshot so it can be written.
+    private void ownRow(int row) {
+        if (!rowOwned[row]) {
+            colours[row] = colours[row].clone();
+            rowOwned[row] = true;
+        }
+    }
+
+    // Reads the live planes, so row masks need no computing.
+    private final class View implements BoardView {
+
+        @Override
+        public int getRowCount() {
+            return rows;
+        }
+
+        @Override
+        public int getColumnCount() {
+            return columns;
+        }
+
+        @Override
+        public int cell(int x, int y) {
+            return colours[y][x];
+        }
+
+        @Override
+        public int getRowMask(int y) {
+            return rowMasks[y];
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+}
@@ -38,6 +38,14 @@ public interface Board {
      */
     boolean rotateLeftBrick();
 
+    /**
+     * Checks if the current brick can move down without actually moving it.
+     * Used to verify if a piece should be locked.
+     *
+     * @return TRUE if the brick can move down, FALSE otherwise.
+     */
+    boolean canMoveDown();
+
     /**
      * Creates a new brick at the top of the board.
      * 
@@ -53,8 +61,26 @@ public interface Board {
      */
     int[][] getBoardMatrix();
 
+    /**
+     * Gets a read-only view of the board that reads the live cells without
+     * copying them.
+     *
+     * @return The {@link BoardView} of the board.
+     */
+    BoardView getBoardView();
+
+    /**
+     * Takes an immutable snapshot of the locked cells.
+     * Rows are shared with the board until either side writes them, so the
+     * cost does not depend on the board size beyond one reference per row.
+     *
+     * @return The {@link BoardSnapshot}.
+     */
+    BoardSnapshot snapshot();
+
     /**
      * Gets the view data for the current brick.
+     * The board updates and returns the same instance on every call.
      * 
      * @return The {@link ViewData} object containing brick position and shape.
      */
@@ -66,6 +92,14 @@ public interface Board {
      */
     void mergeBrickToBackground();
 
+    /**
+     * Drops the current brick straight to its landing row and merges it into
+     * the background, without stepping through the rows in between.
+     *
+     * @return The number of rows the brick fell.
+     */
+    int hardDrop();
+
     /**
      * Clears any full rows on the board.
      *
@@ -74,6 +108,24 @@ public interface Board {
      */
     ClearRow clearRows();
 
+    /**
+     * Gets the surface of the locked cells: column heights, holes and
+     * bumpiness. The profile is live and updates as the board changes.
+     *
+     * @return The {@link SurfaceProfile} of the board.
+     */
+    SurfaceProfile getSurfaceProfile();
+
+    /**
+     * Gets the Zobrist hash of the locked cells.
+     * Kept up to date as bricks are merged and rows are cleared, so reading
+     * it is free. Boards with the same occupied cells have the same hash.
+     *
+     * @return The board hash.
+     * @see ZobristKeys
+     */
+    long getHash();
+
     /**
      * Gets the current score object.
      * 
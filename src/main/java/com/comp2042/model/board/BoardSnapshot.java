@@ -0,0 +1,210 @@
+package com.comp2042.model.board;
+
+import com.comp2042.model.brick.BrickShape;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable copy of the locked cells of a board.
+ * Row arrays are shared by reference with the board the snapshot was taken
+ * from and with snapshots derived from it; whoever writes a shared row copies
+ * it first. Taking a snapshot therefore only copies the array of row
+ * references, and placing a brick on one copies just the rows the brick
+ * touches, so a game can be forked for lookahead without copying the grid.
+ *
+ * <p>A snapshot taken of a board keeps the board's version. Any other
+ * snapshot, whether copied from a matrix or derived by placing a brick, gets
+ * a new negative version from a global counter, so no two of them share a
+ * version, and none shares one with a board, whose versions count up from
+ * zero.
+ */
+public final class BoardSnapshot implements BoardView {
+
+    private static final AtomicLong DERIVED_VERSIONS = new AtomicLong();
+
+    private final int[][] rows;
+    private final int columns;
+    private final long hash;
+    private final long version;
+    private final int linesCleared;
+
+    /**
+     * Constructs a new BoardSnapshot over the given rows, which must not be
+     * written afterwards.
+     *
+     * @param rows         The row arrays, indexed as [row][column].
+     * @param columns      The number of columns.
+     * @param hash         The Zobrist hash of the rows.
+     * @param version      The version of the board the rows came from, or a
+     *                     derived version.
+     * @param linesCleared The number of rows cleared to reach this state.
+     */
+    BoardSnapshot(int[][] rows, int columns, long hash, long version, int linesCleared) {
+        this.rows = rows;
+        this.columns = columns;
+        this.hash = hash;
+        this.version = version;
+        this.linesCleared = linesCleared;
+    }
+
+    /**
+     * Creates a snapshot holding a copy of a matrix.
+     *
+     * @param matrix The board matrix, indexed as [row][column].
+     * @return A new BoardSnapshot.
+     */
+    public static BoardSnapshot of(int[][] matrix) {
+        int[][] rows = MatrixOperations.copy(matrix);
+        long hash = 0;
+        for (int row = 0; row < rows.length; row++) {
+            hash ^= ZobristKeys.row(row, rows[row]);
+        }
+        return new BoardSnapshot(rows, rows.length == 0 ? 0 : rows[0].length, hash,
+                DERIVED_VERSIONS.decrementAndGet(), 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRowCount() {
+        return rows.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getColumnCount() {
+        return columns;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int cell(int x, int y) {
+        return rows[y][x];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRowMask(int y) {
+        int[] row = rows[y];
+        int mask = 0;
+        for (int x = 0; x < row.length; x++) {
+            if (row[x] != 0) {
+                mask |= 1 << x;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * {@inheritDoc}
+     * A snapshot never changes, so its version is fixed.
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the Zobrist hash of the locked cells.
+     *
+     * @return The hash, equal to the board's hash when the snapshot was taken.
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Gets the number of rows cleared by the placement that produced this
+     * snapshot.
+     *
+     * @return The number of rows cleared, 0 for a snapshot taken of a board.
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * Checks if a brick collides with the locked cells or the board edges.
+     *
+     * @param shape The brick shape.
+     * @param x     The column of the brick.
+     * @param y     The row of the brick.
+     * @return true if a collision is detected, false otherwise.
+     */
+    public boolean intersects(BrickShape shape, int x, int y) {
+        return MatrixOperations.intersect(rows, shape, x, y);
+    }
+
+    /**
+     * Locks a brick and clears the rows it completes.
+     * This snapshot is left unchanged; the result shares every row the brick
+     * does not touch with it, and rows above a clear move down by reference.
+     *
+     * @param shape The brick shape.
+     * @param x     The column of the brick.
+     * @param y     The row of the brick, where it must not collide.
+     * @return A new BoardSnapshot holding the result.
+     */
+    public BoardSnapshot place(BrickShape shape, int x, int y) {
+        int[][] next = rows.clone();
+        long nextHash = hash;
+        for (int r = shape.getMinY(); r <= shape.getMaxY(); r++) {
+            next[y + r] = next[y + r].clone();
+        }
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int row = y + shape.getCellY(i);
+            int col = x + shape.getCellX(i);
+            next[row][col] = shape.getBrickId();
+            nextHash ^= ZobristKeys.cell(row, col);
+        }
+
+        // Only rows the brick touched can have been completed by it
+        int cleared = 0;
+        for (int r = shape.getMinY(); r <= shape.getMaxY(); r++) {
+            if (MatrixOperations.isRowComplete(next[y + r])) {
+                cleared++;
+            }
+        }
+        if (cleared == 0) {
+            return new BoardSnapshot(next, columns, nextHash, DERIVED_VERSIONS.decrementAndGet(), 0);
+        }
+
+        int[][] compacted = new int[next.length][];
+        int writeRow = next.length - 1;
+        for (int readRow = next.length - 1; readRow >= 0; readRow--) {
+            boolean touched = readRow >= y + shape.getMinY() && readRow <= y + shape.getMaxY();
+            if (touched && MatrixOperations.isRowComplete(next[readRow])) {
+                continue;
+            }
+            compacted[writeRow--] = next[readRow];
+        }
+        // Nothing writes snapshot rows in place, so the new empty rows can share one array
+        int[] emptyRow = new int[columns];
+        for (int row = writeRow; row >= 0; row--) {
+            compacted[row] = emptyRow;
+        }
+
+        // Kept rows have moved down, so their keys changed
+        nextHash = 0;
+        for (int row = cleared; row < compacted.length; row++) {
+            nextHash ^= ZobristKeys.row(row, compacted[row]);
+        }
+        return new BoardSnapshot(compacted, columns, nextHash, DERIVED_VERSIONS.decrementAndGet(), cleared);
+    }
+
+    /**
+     * Creates a copy of the locked cells.
+     *
+     * @return A new matrix, indexed as [row][column].
+     */
+    public int[][] toMatrix() {
+        return MatrixOperations.copy(rows);
+    }
+}
@@ -0,0 +1,50 @@
+package com.comp2042.model.board;
+
+/**
+ * Read-only, live view of the locked cells of a board.
+ * Reads go straight to the board's storage, so a view can be held for the
+ * lifetime of the board without copying. The version changes whenever any
+ * cell changes, which lets callers skip work when it has not moved on.
+ */
+public interface BoardView {
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return The row count.
+     */
+    int getRowCount();
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return The column count.
+     */
+    int getColumnCount();
+
+    /**
+     * Gets the colour of a cell.
+     *
+     * @param x The column.
+     * @param y The row, 0 being the top of the board.
+     * @return The colour value, or 0 if the cell is empty.
+     */
+    int cell(int x, int y);
+
+    /**
+     * Gets the occupied cells of a row as a bitmask.
+     * Bit x is set when column x of the row is occupied.
+     *
+     * @param y The row.
+     * @return The row bitmask.
+     */
+    int getRowMask(int y);
+
+    /**
+     * Gets the version of the board contents.
+     * Two reads that return the same version saw the same cells.
+     *
+     * @return The version stamp.
+     */
+    long getVersion();
+}
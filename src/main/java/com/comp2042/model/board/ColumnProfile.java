@@ -0,0 +1,236 @@
+package com.comp2042.model.board;
+
+import com.comp2042.model.brick.BrickShape;
+import com.comp2042.model.brick.ShapeRegistry;
+
+import java.util.Arrays;
+
+/**
+ * Height and fill count of every board column, kept up to date as bricks are
+ * merged and rows are cleared, together with the surface totals derived from
+ * them. Lets the board find where a brick lands from the column heights
+ * alone, in time proportional to the brick width. Landing rows are cached per
+ * shape and column until the board changes.
+ */
+class ColumnProfile implements SurfaceProfile {
+
+    // Bricks are at most 4 cells wide, so x is never below -3.
+    private static final int X_OFFSET = 4;
+    private static final int NOT_CACHED = Integer.MIN_VALUE;
+
+    private final int rows;
+    private final int columns;
+    private final int[] heights;
+    private final int[] filledCells;
+
+    private int maxHeight;
+    private int aggregateHeight;
+    private int totalFilledCells;
+    private int bumpiness;
+
+    private final int[] landingCache;
+    private final long[] landingCacheVersion;
+    private long version;
+
+    /**
+     * Constructs a new ColumnProfile for an empty board.
+     *
+     * @param rows    The number of board rows.
+     * @param columns The number of board columns.
+     */
+    ColumnProfile(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        heights = new int[columns];
+        filledCells = new int[columns];
+        landingCache = new int[ShapeRegistry.getShapeCount() * (columns + X_OFFSET)];
+        landingCacheVersion = new long[landingCache.length];
+        Arrays.fill(landingCache, NOT_CACHED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getColumnCount() {
+        return columns;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getHeight(int col) {
+        return heights[col];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getMaxHeight() {
+        return maxHeight;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getAggregateHeight() {
+        return aggregateHeight;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Every cell below a column top is either filled or a hole.
+     */
+    @Override
+    public int getHoleCount() {
+        return aggregateHeight - totalFilledCells;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getBumpiness() {
+        return bumpiness;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getWellDepth(int col) {
+        int left = col > 0 ? heights[col - 1] : Integer.MAX_VALUE;
+        int right = col < columns - 1 ? heights[col + 1] : Integer.MAX_VALUE;
+        int rim = Math.min(left, right);
+        return rim == Integer.MAX_VALUE ? 0 : Math.max(0, rim - heights[col]);
+    }
+
+    /**
+     * Updates the profile for a brick that has been merged into the board.
+     */
+    void brickMerged(BrickShape shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int col = x + shape.getCellX(i);
+            filledCells[col]++;
+            int cellHeight = rows - (y + shape.getCellY(i));
+            if (cellHeight > heights[col]) {
+                setHeight(col, cellHeight);
+            }
+        }
+        totalFilledCells += shape.getCellCount();
+        version++;
+    }
+
+    /**
+     * Updates the profile after rows have been cleared from the matrix.
+     * Full rows span every column, so each column lost exactly one cell per
+     * cleared row and at least that much height; columns whose top cells were
+     * cleared are rescanned downwards.
+     */
+    void rowsCleared(int[][] matrix, int clearedRowCount) {
+        if (clearedRowCount == 0) {
+            return;
+        }
+        for (int col = 0; col < columns; col++) {
+            filledCells[col] -= clearedRowCount;
+            int row = rows - Math.max(0, heights[col] - clearedRowCount);
+            while (row < rows && matrix[row][col] == 0) {
+                row++;
+            }
+            heights[col] = rows - row;
+        }
+        totalFilledCells -= clearedRowCount * columns;
+        updateTotals();
+        version++;
+    }
+
+    /**
+     * Recomputes the whole profile from the matrix.
+     */
+    void rebuild(int[][] matrix) {
+        totalFilledCells = 0;
+        for (int col = 0; col < columns; col++) {
+            int row = 0;
+            while (row < rows && matrix[row][col] == 0) {
+                row++;
+            }
+            heights[col] = rows - row;
+            filledCells[col] = 0;
+            for (; row < rows; row++) {
+                if (matrix[row][col] != 0) {
+                    filledCells[col]++;
+                }
+            }
+            totalFilledCells += filledCells[col];
+        }
+        updateTotals();
+        version++;
+    }
+
+    // Raises one column and adjusts the totals that depend on it.
+    private void setHeight(int col, int height) {
+        int old = heights[col];
+        if (col > 0) {
+            bumpiness += Math.abs(height - heights[col - 1]) - Math.abs(old - heights[col - 1]);
+        }
+        if (col < columns - 1) {
+            bumpiness += Math.abs(height - heights[col + 1]) - Math.abs(old - heights[col + 1]);
+        }
+        aggregateHeight += height - old;
+        maxHeight = Math.max(maxHeight, height);
+        heights[col] = height;
+    }
+
+    private void updateTotals() {
+        maxHeight = 0;
+        aggregateHeight = 0;
+        bumpiness = 0;
+        for (int col = 0; col < columns; col++) {
+            maxHeight = Math.max(maxHeight, heights[col]);
+            aggregateHeight += heights[col];
+            if (col > 0) {
+                bumpiness += Math.abs(heights[col] - heights[col - 1]);
+            }
+        }
+    }
+
+    /**
+     * Finds the row at which a brick dropped straight down from above the
+     * surface comes to rest. The result is only the true landing row of a
+     * brick at or above it: a brick already below the surface of a column,
+     * under an overhang, lands lower and needs a collision walk.
+     *
+     * @param shape The brick shape.
+     * @param x     The column of the brick.
+     * @return The y-coordinate of the brick when it rests on the surface.
+     */
+    int landingRow(BrickShape shape, int x) {
+        int key = x + X_OFFSET;
+        if (key < 0 || key >= columns + X_OFFSET) {
+            return computeLandingRow(shape, x);
+        }
+        int index = shape.getId() * (columns + X_OFFSET) + key;
+        if (landingCacheVersion[index] != version || landingCache[index] == NOT_CACHED) {
+            landingCache[index] = computeLandingRow(shape, x);
+            landingCacheVersion[index] = version;
+        }
+        return landingCache[index];
+    }
+
+    private int computeLandingRow(BrickShape shape, int x) {
+        int landing = Integer.MAX_VALUE;
+        for (int c = shape.getMinX(); c <= shape.getMaxX(); c++) {
+            int bottom = shape.getColumnBottom(c);
+            if (bottom < 0) {
+                continue;
+            }
+            // The lowest cell of the column must stay above the column's top cell
+            int topRow = rows - heights[x + c];
+            landing = Math.min(landing, topRow - 1 - bottom);
+        }
+        return landing;
+    }
+}
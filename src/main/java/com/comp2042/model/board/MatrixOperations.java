@@ -1,9 +1,11 @@
 package com.comp2042.model.board;
 
 import com.comp2042.config.GameConfig;
+import com.comp2042.model.brick.BrickShape;
 import com.comp2042.model.score.ClearRow;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -51,6 +53,27 @@ public class MatrixOperations {
         return false; // No collision
     }
 
+    /**
+     * Checks if a precomputed brick shape collides with existing blocks in the
+     * matrix. Only the occupied cells of the shape are visited.
+     *
+     * @param matrix The board matrix.
+     * @param shape  The brick shape.
+     * @param x      The x-coordinate of the brick.
+     * @param y      The y-coordinate of the brick.
+     * @return true if a collision is detected, false otherwise.
+     */
+    public static boolean intersect(final int[][] matrix, final BrickShape shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int targetX = x + shape.getCellX(i);
+            int targetY = y + shape.getCellY(i);
+            if (checkOutOfBound(matrix, targetX, targetY) || matrix[targetY][targetX] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /*
      * Check if the target position is out of bounds, resolves a crash bug where the
      * game would crash when the tetronimo is out of bounds.
@@ -100,6 +123,109 @@ public class MatrixOperations {
         return result;
     }
 
+    /**
+     * Merges a precomputed brick shape into the board matrix.
+     *
+     * @param filledFields The current board matrix.
+     * @param shape        The brick shape.
+     * @param x            The x-coordinate of the brick.
+     * @param y            The y-coordinate of the brick.
+     * @return A new matrix with the brick merged in.
+     */
+    public static int[][] merge(int[][] filledFields, BrickShape shape, int x, int y) {
+        int[][] result = copy(filledFields);
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            result[y + shape.getCellY(i)][x + shape.getCellX(i)] = shape.getBrickId();
+        }
+        return result;
+    }
+
+    /**
+     * Merges a precomputed brick shape into the board matrix in place.
+     *
+     * @param matrix The board matrix, which is modified.
+     * @param shape  The brick shape.
+     * @param x      The x-coordinate of the brick.
+     * @param y      The y-coordinate of the brick.
+     */
+    public static void mergeInPlace(int[][] matrix, BrickShape shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            matrix[y + shape.getCellY(i)][x + shape.getCellX(i)] = shape.getBrickId();
+        }
+    }
+
+    /**
+     * Removes full rows from the matrix in place.
+     * Scans once from the bottom, moving kept rows down by reference and
+     * reusing the arrays of cleared rows as the empty rows at the top, so no
+     * rows are copied or allocated.
+     *
+     * @param matrix      The board matrix, which is modified.
+     * @param clearedRows Receives the indices the cleared rows had before the
+     *                    clear, bottom row first. Must have room for every
+     *                    row that can be cleared.
+     * @return The number of rows cleared.
+     */
+    public static int clearFullRows(int[][] matrix, int[] clearedRows) {
+        return clearFullRows(matrix, null, clearedRows);
+    }
+
+    /**
+     * Removes full rows from a matrix whose rows may be shared.
+     * As {@link #clearFullRows(int[][], int[])}, but the array of a cleared
+     * row is only reused if it is owned by the matrix; a shared one is
+     * replaced by a new empty row. The ownership flags move with their rows.
+     *
+     * @param matrix      The board matrix, which is modified.
+     * @param owned       Whether each row array may be written, or null if
+     *                    every row is owned. Updated to match the new rows.
+     * @param clearedRows Receives the indices the cleared rows had before the
+     *                    clear, bottom row first.
+     * @return The number of rows cleared.
+     */
+    public static int clearFullRows(int[][] matrix, boolean[] owned, int[] clearedRows) {
+        int clearedRowCount = 0;
+        int writeRow = matrix.length - 1;
+        for (int readRow = matrix.length - 1; readRow >= 0; readRow--) {
+            if (isRowComplete(matrix[readRow])) {
+                clearedRows[clearedRowCount++] = readRow;
+                continue;
+            }
+            if (writeRow != readRow) {
+                int[] recycled = matrix[writeRow];
+                matrix[writeRow] = matrix[readRow];
+                matrix[readRow] = recycled;
+                if (owned != null) {
+                    boolean recycledOwned = owned[writeRow];
+                    owned[writeRow] = owned[readRow];
+                    owned[readRow] = recycledOwned;
+                }
+            }
+            writeRow--;
+        }
+        if (clearedRowCount > 0) {
+            for (int row = writeRow; row >= 0; row--) {
+                if (owned == null || owned[row]) {
+                    Arrays.fill(matrix[row], 0);
+                } else {
+                    matrix[row] = new int[matrix[row].length];
+                    owned[row] = true;
+                }
+            }
+        }
+        return clearedRowCount;
+    }
+
+    /**
+     * Calculates the score bonus for clearing rows at once.
+     *
+     * @param clearedRowCount The number of rows cleared.
+     * @return The score bonus.
+     */
+    public static int scoreBonus(int clearedRowCount) {
+        return SCORE_MULTIPLIER_PER_ROW * clearedRowCount * clearedRowCount;
+    }
+
     /**
      * Checks for and removes full rows from the matrix.
      *
@@ -108,27 +234,26 @@ public class MatrixOperations {
      */
     public static ClearRow checkRemoving(final int[][] matrix) {
         List<int[]> keptRows = new ArrayList<>();
+        int[] clearedRows = new int[matrix.length];
         int clearedRowCount = 0;
         // Identify and separate complete rows from incomplete rows
-        for (int row = 0; row < matrix.length; row++) {
+        for (int row = matrix.length - 1; row >= 0; row--) {
             if (isRowComplete(matrix[row])) {
-                clearedRowCount++;
+                clearedRows[clearedRowCount++] = row;
             } else {
                 keptRows.add(copyRow(matrix[row]));
             }
         }
         // Build result matrix: empty rows at top, kept rows at bottom
         int[][] resultMatrix = new int[matrix.length][matrix[0].length];
-        int startRow = matrix.length - keptRows.size();
         for (int i = 0; i < keptRows.size(); i++) {
-            resultMatrix[startRow + i] = keptRows.get(i);
+            resultMatrix[matrix.length - 1 - i] = keptRows.get(i);
         }
-        int scoreBonus = SCORE_MULTIPLIER_PER_ROW * clearedRowCount * clearedRowCount;
-        return new ClearRow(clearedRowCount, resultMatrix, scoreBonus);
+        return new ClearRow(clearedRowCount, clearedRows, resultMatrix, scoreBonus(clearedRowCount));
     }
 
     // Check if a row is completely filled (no empty cells).
-    private static boolean isRowComplete(int[] row) {
+    static boolean isRowComplete(int[] row) {
         for (int cell : row) {
             if (cell == 0) {
                 return false;
@@ -0,0 +1,84 @@
+package com.comp2042.model.board;
+
+import com.comp2042.model.brick.BrickShape;
+
+/**
+ * Operations on boards stored as one bitmask of occupied columns per row,
+ * where bit c of a row is set when column c is occupied.
+ * Shared by {@link BitboardBoard} and the search boards of the AI.
+ */
+public final class RowMasks {
+
+    private RowMasks() {
+        throw new UnsupportedOperationException("Utility class - do not instantiate");
+    }
+
+    /**
+     * Shifts a brick row mask to a column.
+     *
+     * @param mask    The brick row mask, with the brick's column 0 in bit 0.
+     * @param x       The column of the brick.
+     * @param columns The number of columns of the board, at most 31.
+     * @return The shifted mask, or -1 if a cell leaves the board.
+     */
+    public static int place(int mask, int x, int columns) {
+        if (x < 0) {
+            if (x <= -Integer.SIZE || (mask & ((1 << -x) - 1)) != 0) {
+                return -1;
+            }
+            return mask >>> -x;
+        }
+        if (x >= columns) {
+            return -1;
+        }
+        long placed = (long) mask << x;
+        return (placed & ~((1L << columns) - 1)) != 0 ? -1 : (int) placed;
+    }
+
+    /**
+     * Checks if a brick collides with the occupied cells or the board edges.
+     * Cells outside the board count as collisions, as in
+     * {@link MatrixOperations#intersect(int[][], BrickShape, int, int)}.
+     *
+     * @param rowMasks The row masks of the board, indexed by row.
+     * @param columns  The number of columns of the board.
+     * @param shape    The brick shape.
+     * @param x        The column of the brick.
+     * @param y        The row of the brick.
+     * @return true if a collision is detected, false otherwise.
+     */
+    public static boolean intersects(int[] rowMasks, int columns, BrickShape shape, int x, int y) {
+        for (int r = shape.getMinY(); r <= shape.getMaxY(); r++) {
+            int mask = shape.getRowMask(r);
+            if (mask == 0) {
+                continue;
+            }
+            int row = y + r;
+            if (row < 0 || row >= rowMasks.length) {
+                return true;
+            }
+            int placed = place(mask, x, columns);
+            if (placed < 0 || (placed & rowMasks[row]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes the Zobrist hash of a board from its row masks.
+     *
+     * @param rowMasks The row masks of the board, indexed by row.
+     * @param fromRow  The first row that may be occupied; rows above it must
+     *                 be empty.
+     * @return The hash, as {@link ZobristKeys#cell(int, int)} summed over
+     *         the occupied cells.
+     */
+    public static long hash(int[] rowMasks, int fromRow) {
+        long hash = 0;
+        for (int row = fromRow; row < rowMasks.length; row++) {
+            hash ^= ZobristKeys.row(row, rowMasks[row]);
+        }
+        return hash;
+    }
+}
@@ -4,13 +4,14 @@ import com.comp2042.config.GameConfig;
 import com.comp2042.model.brick.Brick;
 import com.comp2042.model.brick.BrickGenerator;
 import com.comp2042.model.brick.BrickRotator;
+import com.comp2042.model.brick.BrickShape;
 import com.comp2042.model.brick.RandomBrickGenerator;
-import com.comp2042.model.data.NextShapeInfo;
 import com.comp2042.model.data.ViewData;
 import com.comp2042.model.score.ClearRow;
 import com.comp2042.model.score.Score;
 
-import java.awt.*;
+import java.util.Arrays;
+import java.util.function.IntSupplier;
 
 /**
  * Implementation of the Board interface.
@@ -23,21 +24,51 @@ public class SimpleBoard implements Board {
     private final BrickGenerator brickGenerator;
     private final BrickRotator brickRotator;
     private int[][] currentGameMatrix;
-    private Point currentOffset;
+    // False for rows shared with a snapshot, which are copied before writing.
+    private final boolean[] rowOwned;
+    private final int[] clearedRows;
+    private final ColumnProfile columnProfile;
+    private final BoardView boardView = new View();
+    private final ViewData viewData = new ViewData();
+    private long version;
+    private long hash;
+    private int currentX;
+    private int currentY;
     private final Score score;
+    private final IntSupplier spawnRow;
     private static final int TETRONIMO_STARTPOS_X = GameConfig.TETROMINO_START_X;
 
     /**
      * Constructs a new SimpleBoard.
+     * Bricks are random and spawn at the height of the current difficulty.
      *
      * @param width  The width of the board.
      * @param height The height of the board.
      */
     public SimpleBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator(),
+                () -> com.comp2042.manager.SettingsManager.getInstance().getDifficulty().getSpawnYPosition());
+    }
+
+    /**
+     * Constructs a new SimpleBoard with an explicit brick source and spawn
+     * height, so the board can run without the settings manager.
+     *
+     * @param width          The width of the board.
+     * @param height         The height of the board.
+     * @param brickGenerator The generator that supplies new bricks.
+     * @param spawnRow       Supplies the row new bricks spawn at.
+     */
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator, IntSupplier spawnRow) {
         this.width = width;
         this.height = height;
         currentGameMatrix = new int[width][height];
-        brickGenerator = new RandomBrickGenerator();
+        rowOwned = new boolean[width];
+        Arrays.fill(rowOwned, true);
+        clearedRows = new int[width];
+        columnProfile = new ColumnProfile(width, height);
+        this.brickGenerator = brickGenerator;
+        this.spawnRow = spawnRow;
         brickRotator = new BrickRotator();
         score = new Score();
     }
@@ -67,11 +98,17 @@ public class SimpleBoard implements Board {
     }
 
     // [Refactoring Job: Code Duplication] Method to move the tetronimo.
+    // Tests against the live matrix and updates primitive offsets, so no garbage
+    // is created per move.
     private boolean moveBrick(int dx, int dy) {
-        Point newPosition = new Point(getCurrentX(), getCurrentY());
-        newPosition.translate(dx, dy);
-        return tryAction(brickRotator.getCurrentShape(), (int) newPosition.getX(), (int) newPosition.getY(),
-                () -> currentOffset = newPosition);
+        int newX = currentX + dx;
+        int newY = currentY + dy;
+        if (MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentBrickShape(), newX, newY)) {
+            return false;
+        }
+        currentX = newX;
+        currentY = newY;
+        return true;
     }
 
     /**
@@ -79,35 +116,22 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean rotateLeftBrick() {
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-        return tryAction(nextShape.getShape(), getCurrentX(), getCurrentY(),
-                () -> brickRotator.setCurrentShape(nextShape.getPosition()));
-    }
-
-    /*
-     * [Refactoring Job: Code Duplication]
-     * Helper Method for collision detection and conditional state updates, called
-     * by rotateLeftBrick and moveBrick.
-     */
-    private boolean tryAction(int[][] shape, int x, int y, Runnable onSuccess) {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, shape, x, y);
-        if (!conflict) {
-            onSuccess.run();
+        int nextShape = brickRotator.getNextShapeIndex();
+        if (MatrixOperations.intersect(currentGameMatrix, brickRotator.getBrickShape(nextShape),
+                currentX, currentY)) {
+            return false;
         }
-        return !conflict;
+        brickRotator.setCurrentShape(nextShape);
+        return true;
     }
 
     /**
-     * Check if the brick can move down without actually moving it.
-     * Used to verify if a piece should be locked.
+     * {@inheritDoc}
      */
+    @Override
     public boolean canMoveDown() {
-        Point testPosition = new Point(getCurrentX(), getCurrentY());
-        testPosition.translate(0, 1);
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        return !MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(),
-                (int) testPosition.getX(), (int) testPosition.getY());
+        return !MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentBrickShape(),
+                currentX, currentY + 1);
     }
 
     /**
@@ -118,11 +142,10 @@ public class SimpleBoard implements Board {
     public boolean createNewBrick() {
         Brick currentBrick = brickGenerator.getBrick();
         brickRotator.setBrick(currentBrick);
-        // Get Y position from current difficulty
-        int spawnY = com.comp2042.manager.SettingsManager.getInstance().getDifficulty().getSpawnYPosition();
-        currentOffset = new Point(TETRONIMO_STARTPOS_X, spawnY);
-        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(),
-                getCurrentX(), getCurrentY());
+        currentX = TETRONIMO_STARTPOS_X;
+        currentY = spawnRow.getAsInt();
+        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentBrickShape(),
+                currentX, currentY);
     }
 
     /**
@@ -130,17 +153,38 @@ public class SimpleBoard implements Board {
      */
     @Override
     public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.merge(currentGameMatrix, brickRotator.getCurrentShape(),
-                getCurrentX(), getCurrentY());
+        BrickShape shape = brickRotator.getCurrentBrickShape();
+        for (int r = shape.getMinY(); r <= shape.getMaxY(); r++) {
+            ownRow(currentY + r);
+        }
+        MatrixOperations.mergeInPlace(currentGameMatrix, shape, currentX, currentY);
+        columnProfile.brickMerged(shape, currentX, currentY);
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            hash ^= ZobristKeys.cell(currentY + shape.getCellY(i), currentX + shape.getCellX(i));
+        }
+        version++;
     }
 
-    // Additional get helper methods.
-    private int getCurrentX() {
-        return (int) currentOffset.getX();
+    /**
+     * {@inheritDoc}
+     * Reuses the ghost calculation, so the cost does not depend on the
+     * distance fallen.
+     */
+    @Override
+    public int hardDrop() {
+        int landingY = calculateGhostPosition();
+        int distance = landingY - currentY;
+        currentY = landingY;
+        mergeBrickToBackground();
+        return distance;
     }
 
-    private int getCurrentY() {
-        return (int) currentOffset.getY();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SurfaceProfile getSurfaceProfile() {
+        return columnProfile;
     }
 
     /**
@@ -159,21 +203,45 @@ public class SimpleBoard implements Board {
         return MatrixOperations.copy(currentGameMatrix); // Returns an encapsulated copy of the current game matrix.
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BoardView getBoardView() {
+        return boardView;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Marks every row as shared, so the next writes to it copy it first.
+     */
+    @Override
+    public BoardSnapshot snapshot() {
+        Arrays.fill(rowOwned, false);
+        return new BoardSnapshot(currentGameMatrix.clone(), height, hash, version, 0);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public ViewData getViewData() {
         int ghostY = calculateGhostPosition();
-        return new ViewData(brickRotator.getCurrentShape(), getCurrentX(), getCurrentY(),
-                brickGenerator.getNextBrick().getShapeMatrix().get(0), ghostY);
+        viewData.update(brickRotator.getCurrentBrickShape(), currentX, currentY,
+                brickGenerator.getNextBrick().getShapes().get(0), ghostY);
+        return viewData;
     }
 
-    private int calculateGhostPosition() {
-        int ghostY = getCurrentY();
-        int[][] shape = brickRotator.getCurrentShape();
-        int currentX = getCurrentX();
+    // Package-private so the benchmarks can measure it.
+    int calculateGhostPosition() {
+        BrickShape shape = brickRotator.getCurrentBrickShape();
+        int ghostY = columnProfile.landingRow(shape, currentX);
+        if (ghostY >= currentY) {
+            return ghostY;
+        }
 
+        // The brick is below the surface, under an overhang: walk down from it
+        ghostY = currentY;
         while (!MatrixOperations.intersect(currentGameMatrix, shape, currentX, ghostY + 1)) {
             ghostY++;
         }
@@ -186,10 +254,26 @@ public class SimpleBoard implements Board {
      */
     @Override
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(currentGameMatrix);
-        currentGameMatrix = clearRow.getNewMatrix();
-        return clearRow;
+        // The matrix never leaves the board uncopied, so it can be compacted in place
+        int clearedRowCount = MatrixOperations.clearFullRows(currentGameMatrix, rowOwned, clearedRows);
+        columnProfile.rowsCleared(currentGameMatrix, clearedRowCount);
+        if (clearedRowCount > 0) {
+            rehash();
+            version++;
+        }
+        return new ClearRow(clearedRowCount, clearedRows, null, MatrixOperations.scoreBonus(clearedRowCount));
+    }
 
+    /*
+     * Replaces the background with a copy of the given matrix.
+     * Used by the benchmarks to set up board states.
+     */
+    void loadBoardMatrix(int[][] matrix) {
+        currentGameMatrix = MatrixOperations.copy(matrix);
+        Arrays.fill(rowOwned, true);
+        columnProfile.rebuild(currentGameMatrix);
+        rehash();
+        version++;
     }
 
     /**
@@ -198,7 +282,74 @@ public class SimpleBoard implements Board {
     @Override
     public void newGame() {
         currentGameMatrix = new int[width][height];
+        Arrays.fill(rowOwned, true);
+        columnProfile.rebuild(currentGameMatrix);
+        hash = 0;
+        version++;
         score.reset();
         createNewBrick();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getHash() {
+        return hash;
+    }
+
+    // Copies a row shared with a snapshot so it can be written.
+    private void ownRow(int row) {
+        if (!rowOwned[row]) {
+            currentGameMatrix[row] = currentGameMatrix[row].clone();
+            rowOwned[row] = true;
+        }
+    }
+
+    /*
+     * Recomputes the hash after rows have shifted. Rows above the highest
+     * column are empty and contribute nothing, so only the stack is read.
+     */
+    private void rehash() {
+        hash = 0;
+        for (int row = width - columnProfile.getMaxHeight(); row < width; row++) {
+            hash ^= ZobristKeys.row(row, currentGameMatrix[row]);
+        }
+    }
+
+    // Reads the current matrix on every call, so it stays valid across new games.
+    private final class View implements BoardView {
+
+        @Override
+        public int getRowCount() {
+            return width;
+        }
+
+        @Override
+        public int getColumnCount() {
+            return height;
+        }
+
+        @Override
+        public int cell(int x, int y) {
+            return currentGameMatrix[y][x];
+        }
+
+        @Override
+        public int getRowMask(int y) {
+            int[] row = currentGameMatrix[y];
+            int mask = 0;
+            for (int x = 0; x < row.length; x++) {
+                if (row[x] != 0) {
+                    mask |= 1 << x;
+                }
+            }
+            return mask;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
 }
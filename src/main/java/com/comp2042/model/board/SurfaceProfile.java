@@ -0,0 +1,63 @@
+package com.comp2042.model.board;
+
+/**
+ * Read-only view of the board surface.
+ * Maintained by the board as bricks are merged and rows are cleared, so every
+ * query is answered without scanning the grid.
+ */
+public interface SurfaceProfile {
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return The column count.
+     */
+    int getColumnCount();
+
+    /**
+     * Gets the height of a column: the number of rows from the bottom of the
+     * board up to and including its highest filled cell.
+     *
+     * @param col The column.
+     * @return The column height, 0 for an empty column.
+     */
+    int getHeight(int col);
+
+    /**
+     * Gets the height of the tallest column.
+     *
+     * @return The maximum column height.
+     */
+    int getMaxHeight();
+
+    /**
+     * Gets the sum of all column heights.
+     *
+     * @return The aggregate height.
+     */
+    int getAggregateHeight();
+
+    /**
+     * Gets the number of empty cells that lie below the top of their column.
+     *
+     * @return The hole count.
+     */
+    int getHoleCount();
+
+    /**
+     * Gets the sum of the height differences between neighbouring columns.
+     *
+     * @return The bumpiness.
+     */
+    int getBumpiness();
+
+    /**
+     * Gets how far a column lies below the lower of its neighbours.
+     * The board walls count as infinitely high.
+     *
+     * @param col The column.
+     * @return The well depth, 0 if the column is not lower than both
+     *         neighbours.
+     */
+    int getWellDepth(int col);
+}
@@ -0,0 +1,75 @@
+package com.comp2042.model.board;
+
+/**
+ * Zobrist keys for hashing board states.
+ * Every board cell has a fixed pseudo-random 64-bit key, and the hash of a
+ * board is the XOR of the keys of its occupied cells. Filling or emptying a
+ * cell toggles its key, so a board can keep its hash up to date as bricks are
+ * merged instead of rehashing the grid. Only occupancy is hashed: two boards
+ * with the same filled cells hash equally whatever their colours.
+ *
+ * <p>Keys are derived from the cell position with the SplitMix64 finalizer
+ * rather than read from a table, so they are the same for every board size
+ * and every run.
+ */
+public final class ZobristKeys {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long CELL_DOMAIN = 0x5A0B_1000_0000_0000L;
+
+    private ZobristKeys() {
+        throw new UnsupportedOperationException("Utility class - do not instantiate");
+    }
+
+    /**
+     * Gets the key of a cell.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return The cell key.
+     */
+    public static long cell(int row, int col) {
+        return mix(CELL_DOMAIN + ((long) row << 16) + col);
+    }
+
+    /**
+     * Gets the combined key of the occupied cells of a row.
+     *
+     * @param row  The row.
+     * @param mask The occupied columns; bit c is set when column c is filled.
+     * @return The XOR of the keys of the occupied cells.
+     */
+    public static long row(int row, int mask) {
+        long hash = 0;
+        while (mask != 0) {
+            hash ^= cell(row, Integer.numberOfTrailingZeros(mask));
+            mask &= mask - 1;
+        }
+        return hash;
+    }
+
+    /**
+     * Gets the combined key of the occupied cells of a row.
+     *
+     * @param row   The row.
+     * @param cells The cells of the row; non-zero cells are occupied.
+     * @return The XOR of the keys of the occupied cells.
+     */
+    public static long row(int row, int[] cells) {
+        long hash = 0;
+        for (int col = 0; col < cells.length; col++) {
+            if (cells[col] != 0) {
+                hash ^= cell(row, col);
+            }
+        }
+        return hash;
+    }
+
+    // The n-th SplitMix64 output: spreads consecutive inputs over all 64 bits.
+    private static long mix(long n) {
+        long z = n * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
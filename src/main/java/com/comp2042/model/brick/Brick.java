@@ -1,5 +1,6 @@
 package com.comp2042.model.brick;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -8,11 +9,26 @@ import java.util.List;
  */
 public interface Brick {
 
+    /**
+     * Gets the precomputed rotation states of the brick.
+     * The shapes are shared through {@link ShapeRegistry} and are never copied.
+     *
+     * @return An unmodifiable list of shapes, in rotation order.
+     */
+    List<BrickShape> getShapes();
+
     /**
      * Gets the shape matrix of the brick.
      * 
      * @return A list of integer arrays representing the brick's shape and rotation
      *         states.
      */
-    List<int[][]> getShapeMatrix();
+    default List<int[][]> getShapeMatrix() {
+        List<BrickShape> shapes = getShapes();
+        List<int[][]> matrices = new ArrayList<>(shapes.size());
+        for (BrickShape shape : shapes) {
+            matrices.add(shape.toMatrix());
+        }
+        return matrices;
+    }
 }
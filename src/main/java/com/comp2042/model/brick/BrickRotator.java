@@ -2,6 +2,8 @@ package com.comp2042.model.brick;
 
 import com.comp2042.model.data.NextShapeInfo;
 
+import java.util.List;
+
 // Brick is in same package now, no import needed
 
 /**
@@ -10,7 +12,8 @@ import com.comp2042.model.data.NextShapeInfo;
  */
 public class BrickRotator {
 
-    private Brick brick;
+    // Shared rotation states of the current brick, looked up from the registry.
+    private List<BrickShape> shapes;
     private int currentShape = 0;
 
     /**
@@ -20,17 +23,45 @@ public class BrickRotator {
      *         its index.
      */
     public NextShapeInfo getNextShape() {
-        int nextShape = (currentShape + 1) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+        int nextShape = getNextShapeIndex();
+        return new NextShapeInfo(shapes.get(nextShape).toMatrix(), nextShape);
+    }
+
+    /**
+     * Gets the rotation index that follows the current one.
+     *
+     * @return The index of the next rotation state.
+     */
+    public int getNextShapeIndex() {
+        return (currentShape + 1) % shapes.size();
+    }
+
+    /**
+     * Gets a rotation state of the current brick without copying it.
+     *
+     * @param index The index of the rotation state.
+     * @return The shared {@link BrickShape}.
+     */
+    public BrickShape getBrickShape(int index) {
+        return shapes.get(index);
+    }
+
+    /**
+     * Gets the current rotation state of the brick without copying it.
+     *
+     * @return The shared {@link BrickShape}.
+     */
+    public BrickShape getCurrentBrickShape() {
+        return shapes.get(currentShape);
     }
 
     /**
      * Gets the current shape matrix of the brick.
      *
-     * @return The 2D array representing the current brick shape.
+     * @return A copy of the 2D array representing the current brick shape.
      */
     public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+        return shapes.get(currentShape).toMatrix();
     }
 
     /**
@@ -49,7 +80,7 @@ public class BrickRotator {
      * @param brick The {@link Brick} to rotate.
      */
     public void setBrick(Brick brick) {
-        this.brick = brick;
+        this.shapes = brick.getShapes();
         currentShape = 0;
     }
 
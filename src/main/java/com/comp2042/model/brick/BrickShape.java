@@ -0,0 +1,235 @@
+package com.comp2042.model.brick;
+
+import com.comp2042.model.board.MatrixOperations;
+
+import java.util.Arrays;
+
+/**
+ * Immutable, precomputed rotation state of a brick.
+ * Holds the occupied cell coordinates, the bounding box and one bitmask per
+ * shape row so that collision checks and rendering can read the shape without
+ * copying it. Instances are created once by {@link ShapeRegistry} and shared.
+ */
+public final class BrickShape {
+
+    private final int id;
+    private final int brickId;
+    private final int rotation;
+    private final int[][] matrix;
+    private final int[] cellX;
+    private final int[] cellY;
+    private final int[] rowMasks;
+    private final int[] columnBottoms;
+    private final int minX;
+    private final int maxX;
+    private final int minY;
+    private final int maxY;
+
+    /**
+     * Constructs a new BrickShape from its shape matrix.
+     *
+     * @param id       The index of this shape in the registry.
+     * @param brickId  The brick type, which is also the colour value of its cells.
+     * @param rotation The rotation index within the brick.
+     * @param matrix   The shape matrix, indexed as [row][column].
+     */
+    BrickShape(int id, int brickId, int rotation, int[][] matrix) {
+        this.id = id;
+        this.brickId = brickId;
+        this.rotation = rotation;
+        this.matrix = MatrixOperations.copy(matrix);
+        this.rowMasks = new int[matrix.length];
+        this.columnBottoms = new int[matrix[0].length];
+        Arrays.fill(columnBottoms, -1);
+
+        int cellCount = 0;
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    cellCount++;
+                }
+            }
+        }
+        cellX = new int[cellCount];
+        cellY = new int[cellCount];
+
+        int index = 0;
+        int left = Integer.MAX_VALUE;
+        int right = Integer.MIN_VALUE;
+        int top = Integer.MAX_VALUE;
+        int bottom = Integer.MIN_VALUE;
+        for (int row = 0; row < matrix.length; row++) {
+            for (int col = 0; col < matrix[row].length; col++) {
+                if (matrix[row][col] == 0) {
+                    continue;
+                }
+                cellX[index] = col;
+                cellY[index] = row;
+                index++;
+                rowMasks[row] |= 1 << col;
+                columnBottoms[col] = row;
+                left = Math.min(left, col);
+                right = Math.max(right, col);
+                top = Math.min(top, row);
+                bottom = Math.max(bottom, row);
+            }
+        }
+        minX = left;
+        maxX = right;
+        minY = top;
+        maxY = bottom;
+    }
+
+    /**
+     * Gets the index of this shape in the registry, unique across all bricks
+     * and rotations.
+     *
+     * @return The shape index.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the brick type this shape belongs to.
+     * The value is also the colour index used for the brick's cells.
+     *
+     * @return The brick type.
+     */
+    public int getBrickId() {
+        return brickId;
+    }
+
+    /**
+     * Gets the rotation index of this shape within its brick.
+     *
+     * @return The rotation index.
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the number of rows in the shape matrix.
+     *
+     * @return The row count.
+     */
+    public int getRowCount() {
+        return matrix.length;
+    }
+
+    /**
+     * Gets the number of columns in the shape matrix.
+     *
+     * @return The column count.
+     */
+    public int getColumnCount() {
+        return matrix[0].length;
+    }
+
+    /**
+     * Gets the value of a cell in the shape matrix.
+     *
+     * @param row The row within the shape.
+     * @param col The column within the shape.
+     * @return The colour value, or 0 if the cell is empty.
+     */
+    public int getCell(int row, int col) {
+        return matrix[row][col];
+    }
+
+    /**
+     * Gets the number of occupied cells.
+     *
+     * @return The cell count.
+     */
+    public int getCellCount() {
+        return cellX.length;
+    }
+
+    /**
+     * Gets the column of an occupied cell.
+     *
+     * @param index The cell index, from 0 to {@link #getCellCount()} - 1.
+     * @return The column within the shape.
+     */
+    public int getCellX(int index) {
+        return cellX[index];
+    }
+
+    /**
+     * Gets the row of an occupied cell.
+     *
+     * @param index The cell index, from 0 to {@link #getCellCount()} - 1.
+     * @return The row within the shape.
+     */
+    public int getCellY(int index) {
+        return cellY[index];
+    }
+
+    /**
+     * Gets the occupied columns of a shape row as a bitmask.
+     * Bit c is set when column c of the row is occupied.
+     *
+     * @param row The row within the shape.
+     * @return The row bitmask.
+     */
+    public int getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    /**
+     * Gets the lowest occupied row of a shape column.
+     *
+     * @param col The column within the shape.
+     * @return The maximum occupied row, or -1 if the column is empty.
+     */
+    public int getColumnBottom(int col) {
+        return columnBottoms[col];
+    }
+
+    /**
+     * Gets the leftmost occupied column.
+     *
+     * @return The minimum column.
+     */
+    public int getMinX() {
+        return minX;
+    }
+
+    /**
+     * Gets the rightmost occupied column.
+     *
+     * @return The maximum column.
+     */
+    public int getMaxX() {
+        return maxX;
+    }
+
+    /**
+     * Gets the topmost occupied row.
+     *
+     * @return The minimum row.
+     */
+    public int getMinY() {
+        return minY;
+    }
+
+    /**
+     * Gets the bottommost occupied row.
+     *
+     * @return The maximum row.
+     */
+    public int getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Creates a copy of the shape matrix.
+     *
+     * @return A new matrix, indexed as [row][column].
+     */
+    public int[][] toMatrix() {
+        return MatrixOperations.copy(matrix);
+    }
+}
@@ -1,8 +1,5 @@
 package com.comp2042.model.brick;
 
-import com.comp2042.model.board.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -11,45 +8,11 @@ import java.util.List;
  */
 final class LBrick implements Brick {
 
-        private final List<int[][]> brickMatrix = new ArrayList<>();
-
-        /**
-         * Constructs a new LBrick.
-         * Initializes the shape matrix with all the possible rotation states for the
-         * L-brick.
-         */
-        public LBrick() {
-                brickMatrix.add(new int[][] {
-                                { 0, 0, 0, 0 },
-                                { 0, 3, 3, 3 },
-                                { 0, 3, 0, 0 },
-                                { 0, 0, 0, 0 }
-                });
-                brickMatrix.add(new int[][] {
-                                { 0, 0, 0, 0 },
-                                { 0, 3, 3, 0 },
-                                { 0, 0, 3, 0 },
-                                { 0, 0, 3, 0 }
-                });
-                brickMatrix.add(new int[][] {
-                                { 0, 0, 0, 0 },
-                                { 0, 0, 3, 0 },
-                                { 3, 3, 3, 0 },
-                                { 0, 0, 0, 0 }
-                });
-                brickMatrix.add(new int[][] {
-                                { 0, 3, 0, 0 },
-                                { 0, 3, 0, 0 },
-                                { 0, 3, 3, 0 },
-                                { 0, 0, 0, 0 }
-                });
-        }
-
         /**
          * {@inheritDoc}
          */
         @Override
-        public List<int[][]> getShapeMatrix() {
-                return MatrixOperations.deepCopyList(brickMatrix);
+        public List<BrickShape> getShapes() {
+                return ShapeRegistry.getRotations(ShapeRegistry.L_BRICK);
         }
 }
@@ -1,8 +1,5 @@
 package com.comp2042.model.brick;
 
-import com.comp2042.model.board.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -11,28 +8,11 @@ import java.util.List;
  */
 final class OBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
-    /**
-     * Constructs a new OBrick.
-     * Initializes the shape matrix with all the possible rotation states for the
-     * O-brick.
-     */
-    public OBrick() {
-        brickMatrix.add(new int[][] {
-                { 0, 0, 0, 0 },
-                { 0, 4, 4, 0 },
-                { 0, 4, 4, 0 },
-                { 0, 0, 0, 0 }
-        });
-    }
-
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+    public List<BrickShape> getShapes() {
+        return ShapeRegistry.getRotations(ShapeRegistry.O_BRICK);
     }
-
 }
@@ -4,7 +4,8 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Generates Tetris bricks randomly.
@@ -16,12 +17,29 @@ public class RandomBrickGenerator implements BrickGenerator {
 
     private final Deque<Brick> nextBricks = new ArrayDeque<>();
 
+    private final RandomGenerator random;
+
     /**
      * Constructs a new RandomBrickGenerator.
      * Initializes the list of available bricks and pre-fills the queue with two
-     * random bricks.
+     * random bricks. The sequence differs on every run.
      */
     public RandomBrickGenerator() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructs a new RandomBrickGenerator with a fixed seed.
+     * Generators built with the same seed produce the same brick sequence.
+     *
+     * @param seed The random seed.
+     */
+    public RandomBrickGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private RandomBrickGenerator(RandomGenerator random) {
+        this.random = random;
         brickList = new ArrayList<>();
         brickList.add(new IBrick());
         brickList.add(new JBrick());
@@ -30,8 +48,8 @@ public class RandomBrickGenerator implements BrickGenerator {
         brickList.add(new SBrick());
         brickList.add(new TBrick());
         brickList.add(new ZBrick());
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+        nextBricks.add(brickList.get(random.nextInt(brickList.size())));
+        nextBricks.add(brickList.get(random.nextInt(brickList.size())));
     }
 
     /**
@@ -40,7 +58,7 @@ public class RandomBrickGenerator implements BrickGenerator {
     @Override
     public Brick getBrick() {
         if (nextBricks.size() <= 1) {
-            nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+            nextBricks.add(brickList.get(random.nextInt(brickList.size())));
         }
         return nextBricks.poll();
     }
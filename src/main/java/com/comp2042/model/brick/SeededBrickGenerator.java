@@ -0,0 +1,181 @@
+package com.comp2042.model.brick;
+
+import com.comp2042.model.settings.RandomizerMode;
+
+/**
+ * Deterministic brick generator.
+ * The sequence depends only on the seed and the randomizer mode, so a game can
+ * be replayed or benchmarked against a fixed sequence. Upcoming bricks are
+ * kept in a fixed-size ring buffer of brick ids, so drawing and previewing do
+ * not allocate, and the whole state is a handful of primitives and two small
+ * arrays, which makes {@link #fork()} cheap.
+ */
+public class SeededBrickGenerator implements BrickGenerator {
+
+    private static final Brick[] BRICKS = {
+            null, new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick()
+    };
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final RandomizerMode mode;
+    private final int[] queue;
+    private final int[] bag;
+    private long state;
+    private int head;
+    private int bagIndex;
+
+    /**
+     * Constructs a new SeededBrickGenerator.
+     *
+     * @param seed         The random seed.
+     * @param mode         How bricks are picked.
+     * @param previewCount The number of upcoming bricks that can be previewed.
+     */
+    public SeededBrickGenerator(long seed, RandomizerMode mode, int previewCount) {
+        if (previewCount < 1) {
+            throw new IllegalArgumentException("Preview count must be at least 1");
+        }
+        this.mode = mode;
+        this.queue = new int[previewCount];
+        this.bag = new int[ShapeRegistry.BRICK_TYPE_COUNT];
+        restart(seed);
+    }
+
+    private SeededBrickGenerator(SeededBrickGenerator other) {
+        this.mode = other.mode;
+        this.state = other.state;
+        this.queue = other.queue.clone();
+        this.bag = other.bag.clone();
+        this.head = other.head;
+        this.bagIndex = other.bagIndex;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Brick getBrick() {
+        int brickId = queue[head];
+        queue[head] = nextBrickId();
+        head = (head + 1) % queue.length;
+        return BRICKS[brickId];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Brick getNextBrick() {
+        return peek(0);
+    }
+
+    /**
+     * Peeks at an upcoming brick without drawing it.
+     *
+     * @param index The position in the preview queue, 0 being the next brick.
+     * @return The upcoming {@link Brick}.
+     */
+    public Brick peek(int index) {
+        return BRICKS[peekId(index)];
+    }
+
+    /**
+     * Peeks at the type of an upcoming brick without drawing it.
+     *
+     * @param index The position in the preview queue, 0 being the next brick.
+     * @return The brick type, as defined in {@link ShapeRegistry}.
+     */
+    public int peekId(int index) {
+        if (index < 0 || index >= queue.length) {
+            throw new IndexOutOfBoundsException("Preview index " + index + " out of range");
+        }
+        return queue[(head + index) % queue.length];
+    }
+
+    /**
+     * Gets the number of upcoming bricks that can be previewed.
+     *
+     * @return The preview count.
+     */
+    public int getPreviewCount() {
+        return queue.length;
+    }
+
+    /**
+     * Gets the randomizer mode.
+     *
+     * @return The mode.
+     */
+    public RandomizerMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Restarts the sequence from a new seed, as if the generator had just
+     * been constructed with it.
+     *
+     * @param seed The random seed.
+     */
+    public void reseed(long seed) {
+        restart(seed);
+    }
+
+    private void restart(long seed) {
+        state = seed;
+        head = 0;
+        bagIndex = bag.length;
+        for (int i = 0; i < queue.length; i++) {
+            queue[i] = nextBrickId();
+        }
+    }
+
+    /**
+     * Creates an independent copy of this generator.
+     * The copy produces the same sequence from this point on.
+     *
+     * @return The copy.
+     */
+    public SeededBrickGenerator fork() {
+        return new SeededBrickGenerator(this);
+    }
+
+    private int nextBrickId() {
+        if (mode == RandomizerMode.UNIFORM) {
+            return 1 + nextInt(ShapeRegistry.BRICK_TYPE_COUNT);
+        }
+        if (bagIndex == bag.length) {
+            refillBag();
+        }
+        return bag[bagIndex++];
+    }
+
+    // Fills the bag with every brick type once, in random order.
+    private void refillBag() {
+        for (int i = 0; i < bag.length; i++) {
+            bag[i] = i + 1;
+        }
+        for (int i = bag.length - 1; i > 0; i--) {
+            int j = nextInt(i + 1);
+            int swap = bag[i];
+            bag[i] = bag[j];
+            bag[j] = swap;
+        }
+        bagIndex = 0;
+    }
+
+    private int nextInt(int bound) {
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    /*
+     * SplitMix64: a 64-bit counter passed through a mixing function. Good
+     * statistical quality for a game, and the state is a single long.
+     */
+    private long nextLong() {
+        long z = (state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,215 @@
+package com.comp2042.model.brick;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Shared registry of every brick's rotation states.
+ * Each rotation is precomputed once as an immutable {@link BrickShape}, so
+ * bricks and boards can look shapes up instead of copying matrices.
+ */
+public final class ShapeRegistry {
+
+    /** Brick type of the I-brick, also its colour value */
+    public static final int I_BRICK = 1;
+    /** Brick type of the J-brick, also its colour value */
+    public static final int J_BRICK = 2;
+    /** Brick type of the L-brick, also its colour value */
+    public static final int L_BRICK = 3;
+    /** Brick type of the O-brick, also its colour value */
+    public static final int O_BRICK = 4;
+    /** Brick type of the S-brick, also its colour value */
+    public static final int S_BRICK = 5;
+    /** Brick type of the T-brick, also its colour value */
+    public static final int T_BRICK = 6;
+    /** Brick type of the Z-brick, also its colour value */
+    public static final int Z_BRICK = 7;
+
+    /** Number of brick types */
+    public static final int BRICK_TYPE_COUNT = 7;
+
+    private static final List<List<BrickShape>> ROTATIONS = new ArrayList<>();
+    private static final List<BrickShape> SHAPES = new ArrayList<>();
+
+    static {
+        // Index 0 is reserved for empty cells
+        ROTATIONS.add(Collections.emptyList());
+        define(I_BRICK,
+                new int[][] {
+                        { 0, 0, 0, 0 },
+                        { 1, 1, 1, 1 },
+                        { 0, 0, 0, 0 },
+                        { 0, 0, 0, 0 }
+                },
+                new int[][] {
+                        { 0, 1, 0, 0 },
+                        { 0, 1, 0, 0 },
+                        { 0, 1, 0, 0 },
+                        { 0, 1, 0, 0 }
+                });
+        define(J_BRICK,
+                new int[][] {
+                        { 0, 0, 0, 0 },
+                        { 2, 2, 2, 0 },
+                        { 0, 0, 2, 0 },
+                        { 0, 0, 0, 0 }
+                },
+                new int[][] {
+                        { 0, 0, 0, 0 },
+                        { 0, 2, 2, 0 },
+                        { 0, 2, 0, 0 },
+                        { 0, 2, 0, 0 }
+                },
+                new int[][] {
+                        { 0, 0, 0, 0 },
+                        { 0, 2, 0, 0 },
+                        { 0, 2, 2, 2 },
+                        { 0, 0, 0, 0 }
+                },
+                new int[][] {
+                        { 0, 0, 2, 0 },
+                        { 0, 0, 2, 0 },
+                        { 0, 2, 2, 0 },
+                        { 0, 0, 0, 0 }
+                });
+        define(L_BRICK,
+                new int[][] {
+                        { 0, 0, 0, 0 },
+                        { 0, 3, 3, 3 },
+                        { 0, 3, 0, 0 },
+                        { 0, 0, 0, 0 }
+                },
+                new int[][] {
+                        { 0, 0, 0, 0 },
+                        { 0, 3, 3, 0 },
+                        { 0, 0, 3, 0 },
+                        { 0, 0, 3, 0 }
+                },
+                new int[][] {
+                        { 0, 0, 0, 0 },
+                        { 0, 0, 3, 0 },
+                        { 3, 3, 3, 0 },
+                        { 0, 0, 0, 0 }
+                },
+                new int[][] {
+                        { 0, 3, 0, 0 },
+                        { 0, 3, 0, 0 },
+                        { 0, 3, 3, 0 },
+                        { 0, 0, 0, 0 }
+                });
+        define(O_BRICK,
+                new int[][] {
+                        { 0, 0, 0, 0 },
+                        { 0, 4, 4, 0 },
+                        { 0, 4, 4, 0 },
+                        { 0, 0, 0, 0 }
+                });
+        define(S_BRICK,
+                new int[][] {
+                        { 0, 0, 0, 0 },
+                        { 0, 5, 5, 0 },
+                        { 5, 5, 0, 0 },
+                        { 0, 0, 0, 0 }
+                },
+                new int[][] {
+                        { 5, 0, 0, 0 },
+                        { 5, 5, 0, 0 },
+                        { 0, 5, 0, 0 },
+                        { 0, 0, 0, 0 }
+                });
+        define(T_BRICK,
+                new int[][] {
+                        { 0, 0, 0, 0 },
+                        { 6, 6, 6, 0 },
+                        { 0, 6, 0, 0 },
+                        { 0, 0, 0, 0 }
+                },
+                new int[][] {
+                        { 0, 6, 0, 0 },
+                        { 0, 6, 6, 0 },
+                        { 0, 6, 0, 0 },
+                        { 0, 0, 0, 0 }
+                },
+                new int[][] {
+                        { 0, 6, 0, 0 },
+                        { 6, 6, 6, 0 },
+                        { 0, 0, 0, 0 },
+                        { 0, 0, 0, 0 }
+                },
+                new int[][] {
+                        { 0, 6, 0, 0 },
+                        { 6, 6, 0, 0 },
+                        { 0, 6, 0, 0 },
+                        { 0, 0, 0, 0 }
+                });
+        define(Z_BRICK,
+                new int[][] {
+                        { 0, 0, 0, 0 },
+                        { 7, 7, 0, 0 },
+                        { 0, 7, 7, 0 },
+                        { 0, 0, 0, 0 }
+                },
+                new int[][] {
+                        { 0, 7, 0, 0 },
+                        { 7, 7, 0, 0 },
+                        { 7, 0, 0, 0 },
+                        { 0, 0, 0, 0 }
+                });
+    }
+
+    // We don't want to instantiate this utility class
+    private ShapeRegistry() {
+
+    }
+
+    private static void define(int brickId, int[][]... matrices) {
+        List<BrickShape> rotations = new ArrayList<>();
+        for (int rotation = 0; rotation < matrices.length; rotation++) {
+            BrickShape shape = new BrickShape(SHAPES.size(), brickId, rotation, matrices[rotation]);
+            SHAPES.add(shape);
+            rotations.add(shape);
+        }
+        ROTATIONS.add(Collections.unmodifiableList(rotations));
+    }
+
+    /**
+     * Gets all rotation states of a brick type.
+     *
+     * @param brickId The brick type, from 1 to {@link #BRICK_TYPE_COUNT}.
+     * @return An unmodifiable list of the brick's shapes, in rotation order.
+     */
+    public static List<BrickShape> getRotations(int brickId) {
+        return ROTATIONS.get(brickId);
+    }
+
+    /**
+     * Gets a single rotation state of a brick type.
+     *
+     * @param brickId  The brick type, from 1 to {@link #BRICK_TYPE_COUNT}.
+     * @param rotation The rotation index.
+     * @return The shared {@link BrickShape}.
+     */
+    public static BrickShape getShape(int brickId, int rotation) {
+        return ROTATIONS.get(brickId).get(rotation);
+    }
+
+    /**
+     * Gets a shape by its registry index.
+     *
+     * @param id The index returned by {@link BrickShape#getId()}.
+     * @return The shared {@link BrickShape}.
+     */
+    public static BrickShape getShapeById(int id) {
+        return SHAPES.get(id);
+    }
+
+    /**
+     * Gets the total number of shapes across all bricks and rotations.
+     *
+     * @return The shape count.
+     */
+    public static int getShapeCount() {
+        return SHAPES.size();
+    }
+}
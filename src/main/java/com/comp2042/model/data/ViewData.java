@@ -1,36 +1,59 @@
 package com.comp2042.model.data;
 
-import com.comp2042.model.board.MatrixOperations;
+import com.comp2042.model.brick.BrickShape;
 
 /**
- * Data record representing the view state of a brick.
- * Contains the brick's shape, position, next brick, and ghost position.
- *
- * @param brickData      The shape matrix of the current brick.
- * @param xPosition      The x-coordinate of the brick.
- * @param yPosition      The y-coordinate of the brick.
- * @param nextBrickData  The shape matrix of the next brick.
- * @param ghostYPosition The y-coordinate of the ghost brick.
+ * View state of the falling brick: its shape, position, ghost position and
+ * the next brick.
+ * Each board owns a single instance and updates it in place, so moves do not
+ * allocate. Shapes are the shared {@link BrickShape} instances and are read
+ * without copying. The version changes whenever any value does, which lets
+ * renderers skip work when nothing moved since their last frame.
  */
-public record ViewData(
-        int[][] brickData,
-        int xPosition,
-        int yPosition,
-        int[][] nextBrickData,
-        int ghostYPosition) {
+public final class ViewData {
+
+    private BrickShape brickShape;
+    private int xPosition;
+    private int yPosition;
+    private BrickShape nextBrickShape;
+    private int ghostYPosition;
+    private long version;
+
+    /**
+     * Updates the view state, changing the version only if a value changed.
+     *
+     * @param brickShape     The shape of the current brick.
+     * @param xPosition      The x-coordinate of the brick.
+     * @param yPosition      The y-coordinate of the brick.
+     * @param nextBrickShape The shape of the next brick.
+     * @param ghostYPosition The y-coordinate of the ghost brick.
+     */
+    public void update(BrickShape brickShape, int xPosition, int yPosition, BrickShape nextBrickShape,
+            int ghostYPosition) {
+        if (brickShape == this.brickShape && xPosition == this.xPosition && yPosition == this.yPosition
+                && nextBrickShape == this.nextBrickShape && ghostYPosition == this.ghostYPosition) {
+            return;
+        }
+        this.brickShape = brickShape;
+        this.xPosition = xPosition;
+        this.yPosition = yPosition;
+        this.nextBrickShape = nextBrickShape;
+        this.ghostYPosition = ghostYPosition;
+        version++;
+    }
 
     /**
-     * Gets a copy of the brick data.
-     * 
-     * @return A copy of the brick matrix.
+     * Gets the shape of the current brick.
+     *
+     * @return The shared {@link BrickShape}.
      */
-    public int[][] getBrickData() {
-        return MatrixOperations.copy(brickData);
+    public BrickShape getBrickShape() {
+        return brickShape;
     }
 
     /**
      * Gets the x-coordinate.
-     * 
+     *
      * @return The x-coordinate.
      */
     public int getxPosition() {
@@ -39,7 +62,7 @@ public record ViewData(
 
     /**
      * Gets the y-coordinate.
-     * 
+     *
      * @return The y-coordinate.
      */
     public int getyPosition() {
@@ -47,20 +70,29 @@ public record ViewData(
     }
 
     /**
-     * Gets a copy of the next brick data.
-     * 
-     * @return A copy of the next brick matrix.
+     * Gets the shape of the next brick in its spawn rotation.
+     *
+     * @return The shared {@link BrickShape}.
      */
-    public int[][] getNextBrickData() {
-        return MatrixOperations.copy(nextBrickData);
+    public BrickShape getNextBrickShape() {
+        return nextBrickShape;
     }
 
     /**
      * Gets the ghost y-coordinate.
-     * 
+     *
      * @return The ghost y-coordinate.
      */
     public int getGhostYPosition() {
         return ghostYPosition;
     }
+
+    /**
+     * Gets the version of the view state.
+     *
+     * @return A number that changes whenever any value changes.
+     */
+    public long getVersion() {
+        return version;
+    }
 }
@@ -2,26 +2,35 @@ package com.comp2042.model.score;
 
 import com.comp2042.model.board.MatrixOperations;
 
+import java.util.Arrays;
+
 /**
  * Represents the result of clearing rows.
- * Contains the number of lines removed, the new board matrix, and the score
- * bonus.
+ * Contains the number of lines removed, the indices of the removed rows, the
+ * score bonus and, for clears that build a new board, the new board matrix.
  */
 public final class ClearRow {
 
+    private static final int[] NO_ROWS = new int[0];
+
     private final int linesRemoved;
     private final int[][] newMatrix;
+    private final int[] clearedRows;
     private final int scoreBonus;
 
     /**
      * Constructs a new ClearRow object.
      *
      * @param linesRemoved The number of lines cleared.
-     * @param newMatrix    The updated board matrix.
+     * @param clearedRows  Buffer whose first linesRemoved entries are the
+     *                     indices of the cleared rows, bottom row first.
+     * @param newMatrix    The updated board matrix, or null if the board was
+     *                     cleared in place.
      * @param scoreBonus   The score bonus awarded.
      */
-    public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus) {
+    public ClearRow(int linesRemoved, int[] clearedRows, int[][] newMatrix, int scoreBonus) {
         this.linesRemoved = linesRemoved;
+        this.clearedRows = linesRemoved == 0 ? NO_ROWS : Arrays.copyOf(clearedRows, linesRemoved);
         this.newMatrix = newMatrix;
         this.scoreBonus = scoreBonus;
     }
@@ -38,10 +47,22 @@ public final class ClearRow {
     /**
      * Gets the new board matrix after clearing rows.
      *
-     * @return A copy of the updated board matrix.
+     * @return A copy of the updated board matrix, or null if the board was
+     *         cleared in place.
      */
     public int[][] getNewMatrix() {
-        return MatrixOperations.copy(newMatrix);
+        return newMatrix == null ? null : MatrixOperations.copy(newMatrix);
+    }
+
+    /**
+     * Gets the index of a cleared row, as it was before the clear.
+     * Rows are ordered from the bottom of the board upwards.
+     *
+     * @param index The index, from 0 to {@link #getLinesRemoved()} - 1.
+     * @return The board row that was cleared.
+     */
+    public int getClearedRow(int index) {
+        return clearedRows[index];
     }
 
     /**
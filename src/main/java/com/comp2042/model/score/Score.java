@@ -1,38 +1,58 @@
 package com.comp2042.model.score;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
 
 /**
  * Manages the game score.
- * Provides a bindable property for UI updates.
+ * Plain Java so the game rules can run without the JavaFX toolkit; views can
+ * register a listener to mirror the value into a bindable property.
  */
 public final class Score {
 
-    private final IntegerProperty score = new SimpleIntegerProperty(0);
+    private int score;
+    private final List<IntConsumer> listeners = new ArrayList<>();
 
     /**
-     * Gets the score property.
+     * Gets the current score.
      * 
-     * @return The integer property representing the score.
+     * @return The score value.
      */
-    public IntegerProperty scoreProperty() {
+    public int getValue() {
         return score;
     }
 
+    /**
+     * Registers a listener that is called with the new value whenever the
+     * score changes.
+     * 
+     * @param listener The listener to notify.
+     */
+    public void addListener(IntConsumer listener) {
+        listeners.add(listener);
+    }
+
     /**
      * Adds points to the current score.
      * 
      * @param i The amount to add.
      */
     public void add(int i) {
-        score.setValue(score.getValue() + i);
+        setScore(score + i);
     }
 
     /**
      * Resets the score to zero.
      */
     public void reset() {
-        score.setValue(0);
+        setScore(0);
+    }
+
+    private void setScore(int newScore) {
+        score = newScore;
+        for (IntConsumer listener : listeners) {
+            listener.accept(newScore);
+        }
     }
 }
@@ -1,11 +1,19 @@
 package com.comp2042.model.settings;
 
 import javafx.scene.input.KeyCode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Manages key bindings for game controls.
+ * Each action can be bound to several keys, the first being its primary key.
+ * The bindings are compiled into a table indexed by key code whenever they
+ * change, so looking up the action of a key is a single array access.
  * VALIDATION POINT: Default bindings and dynamic lookup
  */
 public class KeyBindings {
@@ -19,10 +27,10 @@ public class KeyBindings {
         PAUSE
     }
 
-    private Map<Action, KeyCode> bindings;
+    private final Map<Action, List<KeyCode>> bindings = new EnumMap<>(Action.class);
+    private final Action[] actionsByKey = new Action[KeyCode.values().length];
 
     public KeyBindings() {
-        bindings = new HashMap<>();
         loadDefaults();
     }
 
@@ -30,24 +38,90 @@ public class KeyBindings {
      * Loads default key bindings.
      */
     private void loadDefaults() {
-        bindings.put(Action.MOVE_LEFT, KeyCode.A);
-        bindings.put(Action.MOVE_RIGHT, KeyCode.D);
-        bindings.put(Action.MOVE_DOWN, KeyCode.S);
-        bindings.put(Action.ROTATE, KeyCode.W);
-        bindings.put(Action.FAST_DROP, KeyCode.SPACE);
-        bindings.put(Action.PAUSE, KeyCode.ESCAPE);
+        bindings.clear();
+        bindings.put(Action.MOVE_LEFT, new ArrayList<>(List.of(KeyCode.A)));
+        bindings.put(Action.MOVE_RIGHT, new ArrayList<>(List.of(KeyCode.D)));
+        bindings.put(Action.MOVE_DOWN, new ArrayList<>(List.of(KeyCode.S)));
+        bindings.put(Action.ROTATE, new ArrayList<>(List.of(KeyCode.W)));
+        bindings.put(Action.FAST_DROP, new ArrayList<>(List.of(KeyCode.SPACE)));
+        bindings.put(Action.PAUSE, new ArrayList<>(List.of(KeyCode.ESCAPE)));
+        compile();
+    }
+
+    /**
+     * Gets the action bound to a key.
+     *
+     * @param keyCode The key.
+     * @return The action, or null if the key is not bound.
+     */
+    public Action getAction(KeyCode keyCode) {
+        return keyCode == null ? null : actionsByKey[keyCode.ordinal()];
     }
 
+    /**
+     * Gets the primary key of an action.
+     *
+     * @param action The action.
+     * @return The first key bound to the action, or null if none is.
+     */
     public KeyCode getBinding(Action action) {
-        return bindings.get(action);
+        List<KeyCode> keys = bindings.get(action);
+        return keys == null || keys.isEmpty() ? null : keys.get(0);
+    }
+
+    /**
+     * Gets every key bound to an action.
+     *
+     * @param action The action.
+     * @return An unmodifiable list of keys, primary key first.
+     */
+    public List<KeyCode> getBindings(Action action) {
+        return List.copyOf(bindings.getOrDefault(action, List.of()));
     }
 
+    /**
+     * Replaces the primary key of an action, keeping its other keys.
+     *
+     * @param action  The action.
+     * @param keyCode The new primary key.
+     */
     public void setBinding(Action action, KeyCode keyCode) {
-        bindings.put(action, keyCode);
+        List<KeyCode> keys = bindings.computeIfAbsent(action, a -> new ArrayList<>());
+        keys.remove(keyCode);
+        if (keys.isEmpty()) {
+            keys.add(keyCode);
+        } else {
+            keys.set(0, keyCode);
+        }
+        compile();
+    }
+
+    /**
+     * Replaces every key of an action.
+     *
+     * @param action   The action.
+     * @param keyCodes The keys, primary key first.
+     */
+    public void setBindings(Action action, List<KeyCode> keyCodes) {
+        List<KeyCode> keys = new ArrayList<>();
+        for (KeyCode keyCode : keyCodes) {
+            if (keyCode != null && !keys.contains(keyCode)) {
+                keys.add(keyCode);
+            }
+        }
+        bindings.put(action, keys);
+        compile();
     }
 
     public Map<Action, KeyCode> getAllBindings() {
-        return new HashMap<>(bindings);
+        Map<Action, KeyCode> primaryKeys = new HashMap<>();
+        for (Action action : Action.values()) {
+            KeyCode keyCode = getBinding(action);
+            if (keyCode != null) {
+                primaryKeys.put(action, keyCode);
+            }
+        }
+        return primaryKeys;
     }
 
     public void resetToDefaults() {
@@ -59,7 +133,24 @@ public class KeyBindings {
      */
     public void loadBindings(Map<Action, KeyCode> loadedBindings) {
         if (loadedBindings != null) {
-            bindings.putAll(loadedBindings);
+            for (Map.Entry<Action, KeyCode> entry : loadedBindings.entrySet()) {
+                setBinding(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /*
+     * Rebuilds the key to action table. A key bound to several actions
+     * triggers the first of them in declaration order.
+     */
+    private void compile() {
+        Arrays.fill(actionsByKey, null);
+        for (Action action : Action.values()) {
+            for (KeyCode keyCode : bindings.getOrDefault(action, List.of())) {
+                if (actionsByKey[keyCode.ordinal()] == null) {
+                    actionsByKey[keyCode.ordinal()] = action;
+                }
+            }
         }
     }
 }
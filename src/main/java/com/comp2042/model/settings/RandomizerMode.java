@@ -0,0 +1,24 @@
+package com.comp2042.model.settings;
+
+/**
+ * Enum representing the ways the next brick can be chosen.
+ */
+public enum RandomizerMode {
+    UNIFORM("Uniform"), // Every brick is picked independently
+    SEVEN_BAG("7-Bag"); // Each run of seven bricks holds every brick once
+
+    private final String displayName;
+
+    RandomizerMode(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
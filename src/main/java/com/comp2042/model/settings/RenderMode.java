@@ -0,0 +1,24 @@
+package com.comp2042.model.settings;
+
+/**
+ * Enum representing the available playfield rendering backends.
+ */
+public enum RenderMode {
+    NODES("Nodes"), // One Rectangle node per cell
+    CANVAS("Canvas"); // Single Canvas with pre-rendered cell sprites
+
+    private final String displayName;
+
+    RenderMode(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
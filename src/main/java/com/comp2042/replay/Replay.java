@@ -0,0 +1,248 @@
+package com.comp2042.replay;
+
+import com.comp2042.input.EventType;
+import com.comp2042.model.settings.DifficultyMode;
+import com.comp2042.model.settings.RandomizerMode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Recording of a single game.
+ * The brick sequence follows from the seed and randomizer, and the engine is
+ * deterministic, so the seed, the difficulty and the input events with their
+ * engine clock times are enough to play the game again exactly.
+ *
+ * <p>Binary format: the magic {@code TRPL}, a version byte, the seed as eight
+ * bytes, then varints for the difficulty, the randomizer, the final score,
+ * the game duration and the event count. Each event is one varint holding the
+ * time since the previous event in milliseconds, shifted left by three bits,
+ * with the event type in the low bits; most events take one or two bytes.
+ */
+public final class Replay {
+
+    private static final int MAGIC = 0x5452504C;
+    private static final byte VERSION = 1;
+    // Room for eight event types; there are five.
+    private static final int TYPE_BITS = 3;
+    private static final EventType[] EVENT_TYPES = EventType.values();
+    private static final DifficultyMode[] DIFFICULTIES = DifficultyMode.values();
+    private static final RandomizerMode[] RANDOMIZERS = RandomizerMode.values();
+
+    private final long seed;
+    private final DifficultyMode difficulty;
+    private final RandomizerMode randomizer;
+    private final int score;
+    private final long duration;
+    private final byte[] eventTypes;
+    private final long[] eventTimes;
+
+    /**
+     * Constructs a new Replay. The event arrays are not copied.
+     *
+     * @param seed       The seed of the brick sequence.
+     * @param difficulty The difficulty the game was played at.
+     * @param randomizer How bricks were picked.
+     * @param score      The final score.
+     * @param duration   The engine clock at the end of the game.
+     * @param eventTypes The ordinal of the type of every event.
+     * @param eventTimes The engine clock time of every event, ascending.
+     */
+    Replay(long seed, DifficultyMode difficulty, RandomizerMode randomizer, int score, long duration,
+            byte[] eventTypes, long[] eventTimes) {
+        this.seed = seed;
+        this.difficulty = difficulty;
+        this.randomizer = randomizer;
+        this.score = score;
+        this.duration = duration;
+        this.eventTypes = eventTypes;
+        this.eventTimes = eventTimes;
+    }
+
+    /**
+     * Gets the seed of the brick sequence.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the difficulty the game was played at.
+     *
+     * @return The difficulty.
+     */
+    public DifficultyMode getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * Gets how bricks were picked.
+     *
+     * @return The randomizer mode.
+     */
+    public RandomizerMode getRandomizer() {
+        return randomizer;
+    }
+
+    /**
+     * Gets the score at the end of the recorded game.
+     *
+     * @return The final score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the engine clock at the end of the recorded game.
+     *
+     * @return The game duration in milliseconds.
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * Gets the number of recorded input events.
+     *
+     * @return The event count.
+     */
+    public int getEventCount() {
+        return eventTypes.length;
+    }
+
+    /**
+     * Gets the type of an event.
+     *
+     * @param index The index of the event.
+     * @return The event type.
+     */
+    public EventType getEventType(int index) {
+        return EVENT_TYPES[eventTypes[index]];
+    }
+
+    /**
+     * Gets the engine clock time at which an event was applied.
+     *
+     * @param index The index of the event.
+     * @return The event time in milliseconds.
+     */
+    public long getEventTime(int index) {
+        return eventTimes[index];
+    }
+
+    /**
+     * Encodes the replay in the binary format.
+     *
+     * @return The encoded bytes.
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 + eventTypes.length * 2);
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES + 1 + Long.BYTES);
+        header.putInt(MAGIC).put(VERSION).putLong(seed);
+        out.write(header.array(), 0, header.capacity());
+        VarInts.write(out, difficulty.ordinal());
+        VarInts.write(out, randomizer.ordinal());
+        VarInts.write(out, score);
+        VarInts.write(out, duration);
+        VarInts.write(out, eventTypes.length);
+
+        long previous = 0;
+        for (int i = 0; i < eventTypes.length; i++) {
+            VarInts.write(out, (eventTimes[i] - previous) << TYPE_BITS | eventTypes[i]);
+            previous = eventTimes[i];
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes a replay from a buffer.
+     * Reads from the current position and leaves the buffer positioned after
+     * the replay, so consecutive replays can be read from one buffer.
+     *
+     * @param in The buffer.
+     * @return The replay.
+     * @throws IllegalArgumentException if the data is not a valid replay.
+     */
+    public static Replay read(ByteBuffer in) {
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a replay");
+            }
+            byte version = in.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported replay version: " + version);
+            }
+            long seed = in.getLong();
+            DifficultyMode difficulty = DIFFICULTIES[readInt(in, DIFFICULTIES.length, "difficulty")];
+            RandomizerMode randomizer = RANDOMIZERS[readInt(in, RANDOMIZERS.length, "randomizer")];
+            int score = readInt(in, Integer.MAX_VALUE + 1L, "score");
+            long duration = VarInts.read(in);
+            if (duration < 0) {
+                throw new IllegalArgumentException("Corrupt replay duration: " + duration);
+            }
+            long eventCount = VarInts.read(in);
+            // Every event takes at least one byte
+            if (eventCount < 0 || eventCount > in.remaining()) {
+                throw new IllegalArgumentException("Truncated or corrupt replay");
+            }
+
+            byte[] eventTypes = new byte[(int) eventCount];
+            long[] eventTimes = new long[(int) eventCount];
+            long time = 0;
+            for (int i = 0; i < eventCount; i++) {
+                long packed = VarInts.read(in);
+                int type = (int) (packed & ((1 << TYPE_BITS) - 1));
+                if (type >= EVENT_TYPES.length) {
+                    throw new IllegalArgumentException("Unknown event type: " + type);
+                }
+                time += packed >>> TYPE_BITS;
+                if (time < 0) {
+                    throw new IllegalArgumentException("Corrupt replay event time");
+                }
+                eventTypes[i] = (byte) type;
+                eventTimes[i] = time;
+            }
+            return new Replay(seed, difficulty, randomizer, score, duration, eventTypes, eventTimes);
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated or corrupt replay", e);
+        }
+    }
+
+    // Reads a varint that must lie in [0, bound), so that it cannot wrap when cast to an int.
+    private static int readInt(ByteBuffer in, long bound, String field) {
+        long value = VarInts.read(in);
+        if (value < 0 || value >= bound) {
+            throw new IllegalArgumentException("Corrupt replay " + field + ": " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Writes the replay to a file, replacing it if it exists.
+     *
+     * @param file The file.
+     * @throws IOException if the file cannot be written.
+     */
+    public void save(Path file) throws IOException {
+        Files.write(file, toBytes());
+    }
+
+    /**
+     * Reads a replay from a file.
+     *
+     * @param file The file.
+     * @return The replay.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a valid replay.
+     */
+    public static Replay load(Path file) throws IOException {
+        return read(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+}
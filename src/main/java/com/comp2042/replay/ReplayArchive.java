@@ -0,0 +1,291 @@
+package com.comp2042.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Read-only view of a replay archive: many replays in one file, followed by
+ * an index. The file is memory-mapped, so the index is read in place and a
+ * replay is decoded straight from the mapping without copying its bytes.
+ * Reads never move a shared position, so several threads can read at once.
+ *
+ * <p>Archive format: a header holding the magic {@code TRPA} and a version
+ * as ints and the offset of the trailer as a long, then the encoded replays,
+ * then the index, then the trailer. Each index entry holds the game id, the
+ * seed and the byte offset as longs, then the score and the encoded length
+ * as ints. The trailer holds the offset of the index as a long, the number
+ * of entries and the magic again as ints. Archives are written by
+ * {@link ReplayArchiveWriter}, which only ever appends and then moves the
+ * trailer offset, so bytes after the trailer, or left over from earlier
+ * indexes, are never read.
+ *
+ * <p>Usage: {@code ReplayArchive <archive> [game-id]}. Without a game id the
+ * scores are summarised from the index alone; with one, that game is looked
+ * up and played back.
+ */
+public final class ReplayArchive implements Closeable {
+
+    static final int MAGIC = 0x54525041;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 2 * Integer.BYTES + Long.BYTES;
+    static final int TRAILER_OFFSET = 2 * Integer.BYTES;
+    static final int ENTRY_BYTES = 3 * Long.BYTES + 2 * Integer.BYTES;
+    static final int TRAILER_BYTES = Long.BYTES + 2 * Integer.BYTES;
+
+    static final int ID = 0;
+    static final int SEED = 8;
+    static final int OFFSET = 16;
+    static final int SCORE = 24;
+    static final int LENGTH = 28;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int indexOffset;
+    private final int size;
+
+    private ReplayArchive(FileChannel channel, MappedByteBuffer buffer, int indexOffset, int size) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.indexOffset = indexOffset;
+        this.size = size;
+    }
+
+    /**
+     * Opens an archive for reading.
+     *
+     * @param file The archive file.
+     * @return The archive.
+     * @throws IOException if the file cannot be read, is larger than a single
+     *                     mapping allows, or is not a complete archive.
+     */
+    public static ReplayArchive open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long length = channel.size();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Replay archive too large to map: " + length + " bytes");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            long trailerOffset = readTrailerOffset(buffer, length);
+            long[] index = readTrailer(buffer.slice((int) trailerOffset, TRAILER_BYTES), trailerOffset);
+            return new ReplayArchive(channel, buffer, (int) index[0], (int) index[1]);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks the header of an archive and finds its trailer.
+     *
+     * @param header A buffer starting with the archive header.
+     * @param length The length of the archive file.
+     * @return The offset of the trailer.
+     * @throws IOException if the file is not a replay archive or is corrupt.
+     */
+    static long readTrailerOffset(ByteBuffer header, long length) throws IOException {
+        if (length < HEADER_BYTES + TRAILER_BYTES || header.getInt(0) != MAGIC) {
+            throw new IOException("Not a replay archive");
+        }
+        if (header.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("Unsupported replay archive version: " + header.getInt(Integer.BYTES));
+        }
+        long trailerOffset = header.getLong(TRAILER_OFFSET);
+        if (trailerOffset < HEADER_BYTES || trailerOffset > length - TRAILER_BYTES) {
+            throw new IOException("Replay archive is corrupt");
+        }
+        return trailerOffset;
+    }
+
+    /**
+     * Checks the trailer of an archive and finds its index.
+     *
+     * @param trailer       A buffer starting with the trailer.
+     * @param trailerOffset The offset of the trailer in the file.
+     * @return The offset of the index and the number of entries.
+     * @throws IOException if the trailer is corrupt.
+     */
+    static long[] readTrailer(ByteBuffer trailer, long trailerOffset) throws IOException {
+        long indexOffset = trailer.getLong(0);
+        int count = trailer.getInt(Long.BYTES);
+        if (trailer.getInt(Long.BYTES + Integer.BYTES) != MAGIC
+                || indexOffset < HEADER_BYTES || count < 0
+                || indexOffset + (long) count * ENTRY_BYTES != trailerOffset) {
+            throw new IOException("Replay archive is corrupt");
+        }
+        return new long[] { indexOffset, count };
+    }
+
+    /**
+     * Gets the number of games in the archive.
+     *
+     * @return The game count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the id of a game.
+     *
+     * @param index The position of the game in the archive.
+     * @return The game id; ids ascend with position.
+     */
+    public long getGameId(int index) {
+        return buffer.getLong(entry(index) + ID);
+    }
+
+    /**
+     * Gets the seed of a game without decoding it.
+     *
+     * @param index The position of the game in the archive.
+     * @return The seed of the brick sequence.
+     */
+    public long getSeed(int index) {
+        return buffer.getLong(entry(index) + SEED);
+    }
+
+    /**
+     * Gets the final score of a game without decoding it.
+     *
+     * @param index The position of the game in the archive.
+     * @return The recorded score.
+     */
+    public int getScore(int index) {
+        return buffer.getInt(entry(index) + SCORE);
+    }
+
+    /**
+     * Gets where a game is stored.
+     *
+     * @param index The position of the game in the archive.
+     * @return The byte offset of the encoded replay in the file.
+     */
+    public long getOffset(int index) {
+        return buffer.getLong(entry(index) + OFFSET);
+    }
+
+    /**
+     * Finds a game by its id.
+     *
+     * @param gameId The game id.
+     * @return The position of the game, or -1 if it is not in the archive.
+     */
+    public int indexOf(long gameId) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long id = getGameId(mid);
+            if (id < gameId) {
+                low = mid + 1;
+            } else if (id > gameId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the encoded bytes of a game as a view of the mapping.
+     *
+     * @param index The position of the game in the archive.
+     * @return A read-only buffer over the encoded replay.
+     * @throws IllegalArgumentException if the index entry points outside the
+     *                                  stored replays.
+     */
+    public ByteBuffer slice(int index) {
+        int entry = entry(index);
+        long offset = buffer.getLong(entry + OFFSET);
+        int length = buffer.getInt(entry + LENGTH);
+        if (offset < HEADER_BYTES || length < 0 || offset + length > indexOffset) {
+            throw new IllegalArgumentException("Corrupt index entry for game " + index);
+        }
+        return buffer.slice((int) offset, length);
+    }
+
+    /**
+     * Decodes a game.
+     *
+     * @param index The position of the game in the archive.
+     * @return The replay.
+     * @throws IllegalArgumentException if the stored replay is corrupt.
+     */
+    public Replay read(int index) {
+        return Replay.read(slice(index));
+    }
+
+    /**
+     * Decodes the games in archive order as they are consumed.
+     * The stream may be made parallel.
+     *
+     * @return A stream of the replays.
+     */
+    public Stream<Replay> stream() {
+        return IntStream.range(0, size).mapToObj(this::read);
+    }
+
+    /**
+     * Closes the file. The mapping stays valid until it is garbage collected,
+     * but the archive must not be used afterwards.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int entry(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Game " + index + " of " + size);
+        }
+        return indexOffset + index * ENTRY_BYTES;
+    }
+
+    public static void main(String[] args) throws IOException {
+        try (ReplayArchive archive = open(Path.of(args[0]))) {
+            if (args.length == 1) {
+                long total = 0;
+                int best = -1;
+                for (int i = 0; i < archive.size(); i++) {
+                    int score = archive.getScore(i);
+                    total += score;
+                    if (best < 0 || score > archive.getScore(best)) {
+                        best = i;
+                    }
+                }
+                System.out.printf("games=%d avg score=%.1f%n", archive.size(),
+                        archive.size() == 0 ? 0.0 : (double) total / archive.size());
+                if (best >= 0) {
+                    System.out.printf("best: game=%d seed=%d score=%d%n",
+                            archive.getGameId(best), archive.getSeed(best), archive.getScore(best));
+                }
+                return;
+            }
+
+            int index = archive.indexOf(Long.parseLong(args[1]));
+            if (index < 0) {
+                System.out.println("No game " + args[1]);
+                return;
+            }
+            Replay replay = archive.read(index);
+            ReplayPlayer player = new ReplayPlayer(replay, ReplayPlayer.createEngine(replay));
+            player.playToEnd();
+            int score = player.getEngine().getScore().getValue();
+            System.out.printf("game=%d seed=%d %s %s events=%d game time=%.1fs score=%d recorded=%d %s%n",
+                    archive.getGameId(index), replay.getSeed(), replay.getDifficulty(), replay.getRandomizer(),
+                    replay.getEventCount(), replay.getDuration() / 1000.0, score, replay.getScore(),
+                    score == replay.getScore() ? "OK" : "MISMATCH");
+        }
+    }
+}
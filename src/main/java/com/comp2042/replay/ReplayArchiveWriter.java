@@ -0,0 +1,243 @@
+package com.comp2042.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Appends replays to a {@link ReplayArchive}.
+ * Nothing the archive refers to is ever overwritten: new replays go after the
+ * current trailer, and on close the new index and trailer are written after
+ * them and flushed before the header is pointed at the new trailer. If the
+ * writer dies first, the archive still reads as it was before it was opened.
+ * Each session leaves the previous index behind as unused bytes. Once those
+ * would outgrow the replays and index still in use, closing compacts the
+ * archive instead: the live replays are copied into a new file, which then
+ * replaces the archive, so the file stays within about twice the size of its
+ * contents. Only one writer may have an archive open at a time.
+ *
+ * <p>Usage: {@code ReplayArchiveWriter <archive> <replay file or directory>...}
+ * appends the given replay files, and the replays saved in the given
+ * directories, to the archive, creating it if needed.
+ */
+public final class ReplayArchiveWriter implements Closeable {
+
+    private static final int INITIAL_ENTRIES = 1024;
+
+    private final Path file;
+    private final FileChannel channel;
+    private ByteBuffer index;
+    private long dataEnd;
+    // Bytes of the replays the index refers to
+    private long replayBytes;
+    private long nextId;
+    private boolean appended;
+
+    /**
+     * Opens an archive for appending, creating it if it does not exist.
+     *
+     * @param file The archive file.
+     * @throws IOException if the file cannot be opened or is not a complete
+     *                     archive.
+     */
+    public ReplayArchiveWriter(Path file) throws IOException {
+        this.file = file;
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE);
+        try {
+            if (channel.size() == 0) {
+                // Start with an empty index so the archive is readable straight away
+                index = ByteBuffer.allocate(INITIAL_ENTRIES * ReplayArchive.ENTRY_BYTES);
+                writeHeader(channel);
+                dataEnd = writeIndex(channel, ReplayArchive.HEADER_BYTES);
+            } else {
+                loadIndex();
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends a replay.
+     *
+     * @param replay The replay.
+     * @return The id of the game in the archive.
+     * @throws IOException if the replay cannot be written.
+     */
+    public long append(Replay replay) throws IOException {
+        byte[] bytes = replay.toBytes();
+        writeFully(channel, ByteBuffer.wrap(bytes), dataEnd);
+
+        if (index.remaining() < ReplayArchive.ENTRY_BYTES) {
+            ByteBuffer grown = ByteBuffer.allocate(index.capacity() * 2);
+            index.flip();
+            grown.put(index);
+            index = grown;
+        }
+        long id = nextId++;
+        index.putLong(id).putLong(replay.getSeed()).putLong(dataEnd).putInt(replay.getScore()).putInt(bytes.length);
+        dataEnd += bytes.length;
+        replayBytes += bytes.length;
+        appended = true;
+        return id;
+    }
+
+    /**
+     * Writes the new index and trailer, flushes the archive to disk, points
+     * the header at the new trailer and closes the archive. If the unused
+     * bytes would outweigh the live ones, the archive is compacted instead.
+     *
+     * @throws IOException if the archive cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (!appended) {
+                return;
+            }
+            // Everything before the new index that is not a live replay: old indexes and trailers
+            long unused = dataEnd - ReplayArchive.HEADER_BYTES - replayBytes;
+            if (unused > replayBytes + index.position()) {
+                compact();
+            } else {
+                writeIndex(channel, dataEnd);
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    // Copies the live replays into a new archive next to this one, then renames it over this one.
+    private void compact() throws IOException {
+        Path compacted = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeHeader(out);
+            long position = ReplayArchive.HEADER_BYTES;
+            for (int entry = 0; entry < index.position(); entry += ReplayArchive.ENTRY_BYTES) {
+                long offset = index.getLong(entry + ReplayArchive.OFFSET);
+                int length = index.getInt(entry + ReplayArchive.LENGTH);
+                out.position(position);
+                for (long copied = 0; copied < length;) {
+                    long transferred = channel.transferTo(offset + copied, length - copied, out);
+                    if (transferred <= 0) {
+                        throw new IOException("Replay archive is incomplete or corrupt");
+                    }
+                    copied += transferred;
+                }
+                index.putLong(entry + ReplayArchive.OFFSET, position);
+                position += length;
+            }
+            writeIndex(out, position);
+        }
+        channel.close();
+        Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Writes the magic and version; the trailer offset is filled in by writeIndex.
+    private static void writeHeader(FileChannel target) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(ReplayArchive.HEADER_BYTES);
+        header.putInt(ReplayArchive.MAGIC).putInt(ReplayArchive.VERSION).flip();
+        writeFully(target, header, 0);
+    }
+
+    // Writes the index and trailer at the given offset and returns the end of the archive.
+    // The header is only updated once everything it will point at is on disk.
+    private long writeIndex(FileChannel target, long indexOffset) throws IOException {
+        int count = index.position() / ReplayArchive.ENTRY_BYTES;
+        writeFully(target, index.duplicate().flip(), indexOffset);
+
+        long trailerOffset = indexOffset + (long) count * ReplayArchive.ENTRY_BYTES;
+        ByteBuffer trailer = ByteBuffer.allocate(ReplayArchive.TRAILER_BYTES);
+        trailer.putLong(indexOffset).putInt(count).putInt(ReplayArchive.MAGIC).flip();
+        writeFully(target, trailer, trailerOffset);
+        target.force(false);
+
+        ByteBuffer pointer = ByteBuffer.allocate(Long.BYTES);
+        pointer.putLong(trailerOffset).flip();
+        writeFully(target, pointer, ReplayArchive.TRAILER_OFFSET);
+        target.force(false);
+        // Drops whatever an earlier crashed writer left after its replays
+        long end = trailerOffset + ReplayArchive.TRAILER_BYTES;
+        target.truncate(end);
+        return end;
+    }
+
+    // Reads the index of an existing archive; appends continue after its trailer.
+    private void loadIndex() throws IOException {
+        long length = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(ReplayArchive.HEADER_BYTES);
+        if (length >= ReplayArchive.HEADER_BYTES) {
+            readFully(header, 0);
+        }
+        long trailerOffset = ReplayArchive.readTrailerOffset(header, length);
+        ByteBuffer trailer = ByteBuffer.allocate(ReplayArchive.TRAILER_BYTES);
+        readFully(trailer, trailerOffset);
+        long[] location = ReplayArchive.readTrailer(trailer, trailerOffset);
+        int count = (int) location[1];
+
+        index = ByteBuffer.allocate(Math.max(INITIAL_ENTRIES, count * 2) * ReplayArchive.ENTRY_BYTES);
+        index.limit(count * ReplayArchive.ENTRY_BYTES);
+        readFully(index, location[0]);
+        index.limit(index.capacity());
+        dataEnd = trailerOffset + ReplayArchive.TRAILER_BYTES;
+        for (int entry = 0; entry < index.position(); entry += ReplayArchive.ENTRY_BYTES) {
+            replayBytes += index.getInt(entry + ReplayArchive.LENGTH);
+        }
+        nextId = count == 0 ? 0
+                : index.getLong((count - 1) * ReplayArchive.ENTRY_BYTES + ReplayArchive.ID) + 1;
+    }
+
+    private static void writeFully(FileChannel target, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += target.write(buffer, position);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Replay archive is incomplete or corrupt");
+            }
+            position += read;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            Path path = Path.of(args[i]);
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> listed = Files.list(path)) {
+                    listed.filter(ReplayStore::isReplayFile).sorted().forEach(files::add);
+                }
+            } else {
+                files.add(path);
+            }
+        }
+
+        int appended = 0;
+        try (ReplayArchiveWriter writer = new ReplayArchiveWriter(Path.of(args[0]))) {
+            for (Path file : files) {
+                try {
+                    writer.append(Replay.load(file));
+                    appended++;
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Error reading replay " + file + ": " + e.getMessage());
+                }
+            }
+        }
+        System.out.println("Appended " + appended + " replays to " + args[0]);
+    }
+}
@@ -0,0 +1,145 @@
+package com.comp2042.replay;
+
+import com.comp2042.config.GameConfig;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.input.EventSource;
+import com.comp2042.input.EventType;
+import com.comp2042.input.MoveEvent;
+import com.comp2042.model.board.SimpleBoard;
+import com.comp2042.model.brick.SeededBrickGenerator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Plays a {@link Replay} back on a game engine.
+ * Each recorded event is applied once the engine clock reaches its time, so
+ * gravity and lock delay fire between events exactly as they did in the
+ * recorded game. The player can be advanced by the GUI game loop to watch a
+ * game at real speed, or run to the end headlessly as fast as possible.
+ *
+ * <p>Usage: {@code ReplayPlayer FILE...} plays every file headlessly and
+ * reports whether the final score matches the recording.
+ */
+public class ReplayPlayer {
+
+    private static final MoveEvent[] EVENTS = new MoveEvent[EventType.values().length];
+
+    static {
+        for (EventType type : EventType.values()) {
+            EVENTS[type.ordinal()] = new MoveEvent(type, EventSource.USER);
+        }
+    }
+
+    private final Replay replay;
+    private final GameEngine engine;
+    private int nextEvent;
+
+    /**
+     * Constructs a new ReplayPlayer.
+     * The engine must have been set up as by {@link #createEngine(Replay)}
+     * and have a new game started.
+     *
+     * @param replay The replay.
+     * @param engine The engine to play it on.
+     */
+    public ReplayPlayer(Replay replay, GameEngine engine) {
+        this.replay = replay;
+        this.engine = engine;
+    }
+
+    /**
+     * Creates a headless engine set up as the recorded game was, with a new
+     * game started.
+     *
+     * @param replay The replay.
+     * @return The engine.
+     */
+    public static GameEngine createEngine(Replay replay) {
+        SimpleBoard board = new SimpleBoard(GameConfig.BOARD_WIDTH, GameConfig.BOARD_HEIGHT,
+                new SeededBrickGenerator(replay.getSeed(), replay.getRandomizer(), GameConfig.BRICK_PREVIEW_COUNT),
+                replay.getDifficulty()::getSpawnYPosition);
+        GameEngine engine = new GameEngine(board, replay.getDifficulty().getTickDurationMs());
+        engine.createNewGame();
+        return engine;
+    }
+
+    /**
+     * Advances the engine clock, applying every event that falls within the
+     * elapsed time in order.
+     *
+     * @param deltaMs The elapsed time in milliseconds.
+     */
+    public void advance(long deltaMs) {
+        long target = engine.getClock() + deltaMs;
+        while (nextEvent < replay.getEventCount() && replay.getEventTime(nextEvent) <= target
+                && !engine.isGameOver()) {
+            engine.advance(replay.getEventTime(nextEvent) - engine.getClock());
+            apply(replay.getEventType(nextEvent));
+            nextEvent++;
+        }
+        engine.advance(target - engine.getClock());
+    }
+
+    /**
+     * Plays the rest of the replay without waiting, up to the end of the
+     * recorded game.
+     */
+    public void playToEnd() {
+        advance(Math.max(0, replay.getDuration() - engine.getClock()));
+    }
+
+    /**
+     * Checks if every event has been played and the recorded game time has
+     * passed.
+     *
+     * @return true if the replay is over, false otherwise.
+     */
+    public boolean isFinished() {
+        return engine.isGameOver()
+                || nextEvent == replay.getEventCount() && engine.getClock() >= replay.getDuration();
+    }
+
+    /**
+     * Rewinds to the first event. The engine must have been restarted on the
+     * replay's seed.
+     */
+    public void restart() {
+        nextEvent = 0;
+    }
+
+    /**
+     * Gets the engine the replay is played on.
+     *
+     * @return The engine.
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    private void apply(EventType type) {
+        MoveEvent event = EVENTS[type.ordinal()];
+        switch (type) {
+            case LEFT -> engine.onLeftEvent(event);
+            case RIGHT -> engine.onRightEvent(event);
+            case ROTATE -> engine.onRotateEvent(event);
+            case DOWN -> engine.onDownEvent(event);
+            case FAST_DROP -> engine.onFastDropEvent(event);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        for (String arg : args) {
+            Replay replay = Replay.load(Path.of(arg));
+            long start = System.nanoTime();
+            GameEngine engine = createEngine(replay);
+            new ReplayPlayer(replay, engine).playToEnd();
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            int score = engine.getScore().getValue();
+            System.out.printf("%s: events=%d game time=%.1fs score=%d recorded=%d %s (%.1f ms)%n",
+                    arg, replay.getEventCount(), replay.getDuration() / 1000.0, score, replay.getScore(),
+                    score == replay.getScore() && engine.isGameOver() ? "OK" : "MISMATCH", seconds * 1000);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.comp2042.replay;
+
+import com.comp2042.input.EventType;
+import com.comp2042.model.settings.DifficultyMode;
+import com.comp2042.model.settings.RandomizerMode;
+
+import java.util.Arrays;
+
+/**
+ * Records the input of a game as it is played.
+ * Events are kept with the engine clock time at which they were applied,
+ * which is all a deterministic engine needs to play them back. Recording
+ * only appends to two primitive arrays, so it adds no garbage per event.
+ */
+public class ReplayRecorder {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long seed;
+    private DifficultyMode difficulty;
+    private RandomizerMode randomizer;
+    private byte[] eventTypes = new byte[INITIAL_CAPACITY];
+    private long[] eventTimes = new long[INITIAL_CAPACITY];
+    private int eventCount;
+
+    /**
+     * Starts recording a new game, discarding any recorded events.
+     *
+     * @param seed       The seed of the brick sequence.
+     * @param difficulty The difficulty the game is played at.
+     * @param randomizer How bricks are picked.
+     */
+    public void start(long seed, DifficultyMode difficulty, RandomizerMode randomizer) {
+        this.seed = seed;
+        this.difficulty = difficulty;
+        this.randomizer = randomizer;
+        eventCount = 0;
+    }
+
+    /**
+     * Records an input event.
+     *
+     * @param type The event type.
+     * @param time The engine clock when the event was applied, in
+     *             milliseconds; not earlier than the previous event.
+     */
+    public void record(EventType type, long time) {
+        if (eventCount == eventTypes.length) {
+            eventTypes = Arrays.copyOf(eventTypes, eventCount * 2);
+            eventTimes = Arrays.copyOf(eventTimes, eventCount * 2);
+        }
+        eventTypes[eventCount] = (byte) type.ordinal();
+        eventTimes[eventCount] = time;
+        eventCount++;
+    }
+
+    /**
+     * Drops the most recently recorded event, e.g. a move that turned out to
+     * change nothing.
+     */
+    public void discardLast() {
+        if (eventCount > 0) {
+            eventCount--;
+        }
+    }
+
+    /**
+     * Gets the number of events recorded so far.
+     *
+     * @return The event count.
+     */
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Finishes the recording.
+     *
+     * @param score    The final score.
+     * @param duration The engine clock at the end of the game.
+     * @return The replay of the game.
+     */
+    public Replay finish(int score, long duration) {
+        return new Replay(seed, difficulty, randomizer, score, duration,
+                Arrays.copyOf(eventTypes, eventCount), Arrays.copyOf(eventTimes, eventCount));
+    }
+}
@@ -0,0 +1,67 @@
+package com.comp2042.replay;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Directory of saved replays, one file per game.
+ * Files are named after the time they were saved.
+ */
+public class ReplayStore {
+
+    private static final String PREFIX = "replay-";
+    private static final String EXTENSION = ".rpl";
+
+    private final Path directory;
+
+    /**
+     * Constructs a new ReplayStore. The directory is created on first save.
+     *
+     * @param directory The directory holding the replays.
+     */
+    public ReplayStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Saves a replay as a new file.
+     *
+     * @param replay The replay.
+     * @return The file written.
+     * @throws IOException if the file cannot be written.
+     */
+    public Path save(Replay replay) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(PREFIX + System.currentTimeMillis() + EXTENSION);
+        // Two games ending within a millisecond must not overwrite each other
+        for (int i = 1; Files.exists(file); i++) {
+            file = directory.resolve(PREFIX + System.currentTimeMillis() + "-" + i + EXTENSION);
+        }
+        replay.save(file);
+        return file;
+    }
+
+    /**
+     * Finds the most recently saved replay.
+     *
+     * @return The replay file, or empty if there is none.
+     * @throws IOException if the directory cannot be listed.
+     */
+    public Optional<Path> latest() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(ReplayStore::isReplayFile)
+                    .max((a, b) -> Long.compare(a.toFile().lastModified(), b.toFile().lastModified()));
+        }
+    }
+
+    static boolean isReplayFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(EXTENSION);
+    }
+}
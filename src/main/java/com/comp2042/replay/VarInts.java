@@ -0,0 +1,55 @@
+package com.comp2042.replay;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * LEB128 variable-length encoding of non-negative integers.
+ * Seven bits are stored per byte, low bits first, with the high bit set on
+ * every byte but the last, so small values take a single byte.
+ */
+final class VarInts {
+
+    private VarInts() {
+        throw new UnsupportedOperationException("Utility class - do not instantiate");
+    }
+
+    /**
+     * Writes a non-negative value.
+     *
+     * @param out   The stream to write to.
+     * @param value The value.
+     * @throws IllegalArgumentException if the value is negative.
+     */
+    static void write(ByteArrayOutputStream out, long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative varint: " + value);
+        }
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * Reads a value written by {@link #write(ByteArrayOutputStream, long)}.
+     *
+     * @param in The buffer to read from, positioned at the value.
+     * @return The value.
+     * @throws BufferUnderflowException if the buffer ends inside the value.
+     * @throws IllegalArgumentException if the value is longer than 64 bits.
+     */
+    static long read(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+}
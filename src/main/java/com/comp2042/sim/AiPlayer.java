@@ -0,0 +1,35 @@
+package com.comp2042.sim;
+
+import com.comp2042.ai.AiDriver;
+import com.comp2042.ai.Heuristic;
+import com.comp2042.ai.PlacementSearch;
+import com.comp2042.engine.GameEngine;
+
+/**
+ * Player that places one brick per step with the {@link AiDriver}.
+ * Deterministic, so a game played with the same seed is played identically
+ * whether or not the search runs in parallel.
+ */
+public class AiPlayer implements Player {
+
+    private final AiDriver driver;
+
+    /**
+     * Constructs a new AiPlayer.
+     *
+     * @param parallelSearch Whether each search is spread over the cores.
+     */
+    public AiPlayer(boolean parallelSearch) {
+        driver = new AiDriver(new PlacementSearch(new Heuristic(), parallelSearch));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void act(GameEngine engine) {
+        if (!engine.isGameOver()) {
+            driver.playPiece(engine, engine.getBoard());
+        }
+    }
+}
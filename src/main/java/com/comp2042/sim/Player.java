@@ -0,0 +1,17 @@
+package com.comp2042.sim;
+
+import com.comp2042.engine.GameEngine;
+
+/**
+ * Interface for players that drive a {@link GameEngine} in the simulator.
+ */
+public interface Player {
+
+    /**
+     * Sends the input for one simulation step to the engine.
+     * Called once per step, before the engine clock is advanced.
+     *
+     * @param engine The engine of the game being played.
+     */
+    void act(GameEngine engine);
+}
@@ -0,0 +1,49 @@
+package com.comp2042.sim;
+
+import com.comp2042.engine.GameEngine;
+import com.comp2042.input.EventSource;
+import com.comp2042.input.EventType;
+import com.comp2042.input.MoveEvent;
+
+import java.util.SplittableRandom;
+
+/**
+ * Scripted player that presses a random key on each step.
+ * Seeded, so a game played with the same seeds is played identically.
+ */
+public class RandomPlayer implements Player {
+
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent DOWN = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent FAST_DROP = new MoveEvent(EventType.FAST_DROP, EventSource.USER);
+
+    private final SplittableRandom random;
+
+    /**
+     * Constructs a new RandomPlayer.
+     *
+     * @param seed The random seed.
+     */
+    public RandomPlayer(long seed) {
+        random = new SplittableRandom(seed);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void act(GameEngine engine) {
+        switch (random.nextInt(8)) {
+            case 0, 1 -> engine.onLeftEvent(LEFT);
+            case 2, 3 -> engine.onRightEvent(RIGHT);
+            case 4 -> engine.onRotateEvent(ROTATE);
+            case 5 -> engine.onDownEvent(DOWN);
+            case 6 -> engine.onFastDropEvent(FAST_DROP);
+            default -> {
+                // Wait for gravity
+            }
+        }
+    }
+}
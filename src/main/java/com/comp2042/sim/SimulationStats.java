@@ -0,0 +1,91 @@
+package com.comp2042.sim;
+
+import com.comp2042.engine.GameEventListener;
+import com.comp2042.model.score.ClearRow;
+
+/**
+ * Totals collected over one or more simulated games.
+ * Each game records into its own instance, which are then merged.
+ */
+public class SimulationStats implements GameEventListener {
+
+    // A single piece clears at most four rows.
+    private static final int MAX_ROWS_PER_CLEAR = 4;
+
+    private long games;
+    private long pieces;
+    private long lines;
+    private long totalScore;
+    private final long[] clearHistogram = new long[MAX_ROWS_PER_CLEAR + 1];
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPieceLocked(ClearRow clearRow) {
+        pieces++;
+        int removed = clearRow.getLinesRemoved();
+        lines += removed;
+        clearHistogram[Math.min(removed, MAX_ROWS_PER_CLEAR)]++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onGameOver() {
+    }
+
+    /**
+     * Records the end of a game.
+     *
+     * @param score The final score of the game.
+     */
+    public void recordGame(int score) {
+        games++;
+        totalScore += score;
+    }
+
+    /**
+     * Adds the totals of another instance to this one.
+     *
+     * @param other The stats to add.
+     * @return This instance.
+     */
+    public SimulationStats merge(SimulationStats other) {
+        games += other.games;
+        pieces += other.pieces;
+        lines += other.lines;
+        totalScore += other.totalScore;
+        for (int i = 0; i < clearHistogram.length; i++) {
+            clearHistogram[i] += other.clearHistogram[i];
+        }
+        return this;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getPieces() {
+        return pieces;
+    }
+
+    public long getLines() {
+        return lines;
+    }
+
+    public long getTotalScore() {
+        return totalScore;
+    }
+
+    /**
+     * Gets the number of locked pieces that cleared the given number of rows.
+     *
+     * @param rows The number of rows, from 0 to 4.
+     * @return The number of pieces.
+     */
+    public long getClearCount(int rows) {
+        return clearHistogram[rows];
+    }
+}
@@ -0,0 +1,280 @@
+package com.comp2042.sim;
+
+import com.comp2042.config.GameConfig;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.model.board.BitboardBoard;
+import com.comp2042.model.board.Board;
+import com.comp2042.model.board.SimpleBoard;
+import com.comp2042.model.brick.BrickGenerator;
+import com.comp2042.model.brick.SeededBrickGenerator;
+import com.comp2042.model.settings.DifficultyMode;
+import com.comp2042.model.settings.RandomizerMode;
+import com.comp2042.replay.Replay;
+import com.comp2042.replay.ReplayArchive;
+import com.comp2042.replay.ReplayPlayer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Runs batches of headless games in parallel and reports throughput.
+ * Every game is seeded from the batch seed and its index, so a batch is
+ * reproducible regardless of the number of threads.
+ *
+ * <p>Usage: {@code Simulator [--games N] [--threads N] [--seed N]
+ * [--max-pieces N] [--step-ms N] [--difficulty NORMAL|HARD|BLITZ]
+ * [--randomizer UNIFORM|SEVEN_BAG] [--board simple|bitboard]
+ * [--player random|ai] [--parallel-search] [--replays ARCHIVE] [--scaling]}.
+ * With {@code --scaling} the batch is repeated with 1, 2, 4, ... threads up
+ * to the requested count. {@code --board} picks the {@link Board}
+ * implementation the games run on. The {@code ai} player places one brick per
+ * step; with {@code --parallel-search} each of its searches is also split
+ * across the pool. With {@code --replays} the games of a
+ * {@link ReplayArchive} are played back instead, read straight from the
+ * mapped file, and the game settings and player options are ignored.
+ */
+public class Simulator {
+
+    private final DifficultyMode difficulty;
+    private final RandomizerMode randomizer;
+    private final int maxPieces;
+    private final int stepMs;
+    private final LongFunction<Player> playerFactory;
+    private final BiFunction<BrickGenerator, IntSupplier, Board> boardFactory;
+
+    /**
+     * Constructs a new Simulator that plays on a {@link SimpleBoard}.
+     *
+     * @param difficulty    The difficulty that sets gravity and spawn height.
+     * @param randomizer    How bricks are picked.
+     * @param maxPieces     The number of pieces after which a game is stopped.
+     * @param stepMs        The game time between two player inputs.
+     * @param playerFactory Creates the player for a game from its seed.
+     */
+    public Simulator(DifficultyMode difficulty, RandomizerMode randomizer, int maxPieces, int stepMs,
+            LongFunction<Player> playerFactory) {
+        this(difficulty, randomizer, maxPieces, stepMs, playerFactory,
+                (generator, spawnRow) -> new SimpleBoard(GameConfig.BOARD_WIDTH, GameConfig.BOARD_HEIGHT,
+                        generator, spawnRow));
+    }
+
+    /**
+     * Constructs a new Simulator.
+     *
+     * @param difficulty    The difficulty that sets gravity and spawn height.
+     * @param randomizer    How bricks are picked.
+     * @param maxPieces     The number of pieces after which a game is stopped.
+     * @param stepMs        The game time between two player inputs.
+     * @param playerFactory Creates the player for a game from its seed.
+     * @param boardFactory  Creates the board for a game from its brick
+     *                      generator and spawn row.
+     */
+    public Simulator(DifficultyMode difficulty, RandomizerMode randomizer, int maxPieces, int stepMs,
+            LongFunction<Player> playerFactory, BiFunction<BrickGenerator, IntSupplier, Board> boardFactory) {
+        this.difficulty = difficulty;
+        this.randomizer = randomizer;
+        this.maxPieces = maxPieces;
+        this.stepMs = stepMs;
+        this.playerFactory = playerFactory;
+        this.boardFactory = boardFactory;
+    }
+
+    /**
+     * Plays a single game to game over or the piece limit.
+     *
+     * @param seed The seed for the brick sequence and the player.
+     * @return The stats of the game.
+     */
+    public SimulationStats playGame(long seed) {
+        SimulationStats stats = new SimulationStats();
+        Board board = boardFactory.apply(
+                new SeededBrickGenerator(seed, randomizer, GameConfig.BRICK_PREVIEW_COUNT),
+                difficulty::getSpawnYPosition);
+        GameEngine engine = new GameEngine(board, difficulty.getTickDurationMs());
+        engine.setGameEventListener(stats);
+        engine.createNewGame();
+
+        Player player = playerFactory.apply(seed);
+        while (!engine.isGameOver() && stats.getPieces() < maxPieces) {
+            player.act(engine);
+            engine.advance(stepMs);
+        }
+        stats.recordGame(engine.getScore().getValue());
+        return stats;
+    }
+
+    /**
+     * Plays a batch of games on a fork-join pool.
+     *
+     * @param games   The number of games.
+     * @param threads The parallelism of the pool.
+     * @param seed    The batch seed; game i uses seed + i.
+     * @return The merged stats of all games.
+     */
+    public SimulationStats run(int games, int threads, long seed) {
+        return collect(games, threads, i -> playGame(seed + i));
+    }
+
+    /**
+     * Plays back a single recorded game to its end.
+     *
+     * @param replay The recorded game.
+     * @return The stats of the game.
+     */
+    public static SimulationStats replayGame(Replay replay) {
+        SimulationStats stats = new SimulationStats();
+        GameEngine engine = ReplayPlayer.createEngine(replay);
+        engine.setGameEventListener(stats);
+        new ReplayPlayer(replay, engine).playToEnd();
+        stats.recordGame(engine.getScore().getValue());
+        return stats;
+    }
+
+    /**
+     * Plays back every game of an archive on a fork-join pool.
+     *
+     * @param archive The archive.
+     * @param threads The parallelism of the pool.
+     * @return The merged stats of all games.
+     */
+    public static SimulationStats replay(ReplayArchive archive, int threads) {
+        return collect(archive.size(), threads, i -> replayGame(archive.read(i)));
+    }
+
+    // Games are independent, so each worker plays its own and the stats are merged.
+    private static SimulationStats collect(int games, int threads, IntFunction<SimulationStats> game) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return pool.submit(() -> IntStream.range(0, games)
+                    .parallel()
+                    .collect(SimulationStats::new,
+                            (stats, i) -> stats.merge(game.apply(i)),
+                            SimulationStats::merge))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public static void main(String[] args) {
+        int games = 10_000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 1;
+        int maxPieces = 10_000;
+        int stepMs = 50;
+        DifficultyMode difficulty = DifficultyMode.NORMAL;
+        RandomizerMode randomizer = RandomizerMode.SEVEN_BAG;
+        String boardType = "simple";
+        String player = "random";
+        boolean parallelSearch = false;
+        String replays = null;
+        boolean scaling = false;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games" -> games = Integer.parseInt(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--max-pieces" -> maxPieces = Integer.parseInt(args[++i]);
+                case "--step-ms" -> stepMs = Integer.parseInt(args[++i]);
+                case "--difficulty" -> difficulty = DifficultyMode.valueOf(args[++i]);
+                case "--randomizer" -> randomizer = RandomizerMode.valueOf(args[++i]);
+                case "--board" -> boardType = args[++i];
+                case "--player" -> player = args[++i];
+                case "--parallel-search" -> parallelSearch = true;
+                case "--replays" -> replays = args[++i];
+                case "--scaling" -> scaling = true;
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        if (replays != null) {
+            replayArchive(Path.of(replays), threads, scaling);
+            return;
+        }
+
+        boolean parallel = parallelSearch;
+        LongFunction<Player> playerFactory = switch (player) {
+            case "random" -> RandomPlayer::new;
+            case "ai" -> gameSeed -> new AiPlayer(parallel);
+            default -> throw new IllegalArgumentException("Unknown player: " + player);
+        };
+
+        BiFunction<BrickGenerator, IntSupplier, Board> boardFactory = switch (boardType) {
+            case "simple" -> (generator, spawnRow) -> new SimpleBoard(GameConfig.BOARD_WIDTH,
+                    GameConfig.BOARD_HEIGHT, generator, spawnRow);
+            case "bitboard" -> (generator, spawnRow) -> new BitboardBoard(GameConfig.BOARD_WIDTH,
+                    GameConfig.BOARD_HEIGHT, generator, spawnRow);
+            default -> throw new IllegalArgumentException("Unknown board: " + boardType);
+        };
+
+        Simulator simulator = new Simulator(difficulty, randomizer, maxPieces, stepMs, playerFactory,
+                boardFactory);
+        // Warm up the JIT so the first measured batch is not dominated by compilation
+        simulator.run(Math.max(1, games / 10), threads, seed);
+
+        int batchGames = games;
+        long batchSeed = seed;
+        int maxThreads = threads;
+        if (scaling) {
+            for (int t = 1; t < maxThreads; t *= 2) {
+                int batchThreads = t;
+                report(t, () -> simulator.run(batchGames, batchThreads, batchSeed));
+            }
+        }
+        report(maxThreads, () -> simulator.run(batchGames, maxThreads, batchSeed));
+    }
+
+    private static void replayArchive(Path file, int threads, boolean scaling) {
+        try (ReplayArchive archive = ReplayArchive.open(file)) {
+            long recordedScore = 0;
+            for (int i = 0; i < archive.size(); i++) {
+                recordedScore += archive.getScore(i);
+            }
+            System.out.printf("archive=%s games=%d recorded avg score=%.1f%n", file, archive.size(),
+                    archive.size() == 0 ? 0.0 : (double) recordedScore / archive.size());
+
+            // Warm up the JIT so the first measured batch is not dominated by compilation
+            replay(archive, threads);
+            if (scaling) {
+                for (int t = 1; t < threads; t *= 2) {
+                    int batchThreads = t;
+                    report(t, () -> replay(archive, batchThreads));
+                }
+            }
+            report(threads, () -> replay(archive, threads));
+        } catch (IOException e) {
+            System.err.println("Error reading replay archive: " + e.getMessage());
+        }
+    }
+
+    private static void report(int threads, Supplier<SimulationStats> batch) {
+        long start = System.nanoTime();
+        SimulationStats stats = batch.get();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        double gamesPerSecond = stats.getGames() / seconds;
+        double piecesPerSecond = stats.getPieces() / seconds;
+        System.out.printf("threads=%d games=%d pieces=%d lines=%d time=%.3fs%n",
+                threads, stats.getGames(), stats.getPieces(), stats.getLines(), seconds);
+        System.out.printf("  games/s=%.0f (%.0f per thread)  pieces/s=%.0f (%.0f per thread)  avg score=%.1f%n",
+                gamesPerSecond, gamesPerSecond / threads, piecesPerSecond, piecesPerSecond / threads,
+                (double) stats.getTotalScore() / stats.getGames());
+        System.out.printf("  clears: single=%d double=%d triple=%d tetris=%d none=%d%n",
+                stats.getClearCount(1), stats.getClearCount(2), stats.getClearCount(3),
+                stats.getClearCount(4), stats.getClearCount(0));
+    }
+}
@@ -1,19 +1,32 @@
 package com.comp2042.view.renderer;
 
 import com.comp2042.config.GameConfig;
+import com.comp2042.model.board.BoardView;
+import com.comp2042.model.brick.BrickShape;
 import javafx.scene.layout.GridPane;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 import javafx.scene.shape.Rectangle;
 
+import java.util.Arrays;
+
 /**
- * Renders the game board background (locked pieces).
- * Responsible for displaying the static game matrix.
+ * Renders the game board background (locked pieces) and the ghost preview.
+ * Remembers what every cell currently shows and only updates the rectangles
+ * whose content changed, so the work per frame scales with the size of the
+ * change rather than the size of the board.
  */
 public class BoardRenderer {
     private static final int BRICK_SIZE = GameConfig.BRICK_SIZE;
     private static final int BOARD_ROW_OFFSET = GameConfig.BOARD_ROW_OFFSET;
 
+    // Added to a colour index in renderedCells to mark a ghost cell.
+    private static final int GHOST_FLAG = 1 << 8;
+    // Marks a cell that has never been rendered.
+    private static final int UNRENDERED = -1;
+    // A brick shape is at most 4x4 cells.
+    private static final int MAX_GHOST_CELLS = 16;
+
     private static final Color[] BRICK_COLORS = {
             Color.TRANSPARENT, // 0
             Color.AQUA, // 1
@@ -25,58 +38,198 @@ public class BoardRenderer {
             Color.BURLYWOOD // 7
     };
 
+    private static final Color[] GHOST_COLORS = createGhostColors();
+
     private Rectangle[][] displayMatrix;
+    private int[][] renderedCells;
+    private BoardView lastBoard;
+    private long lastVersion;
+
+    // Ghost footprint currently on screen, and scratch space for the new one.
+    private int[] ghostRows = new int[MAX_GHOST_CELLS];
+    private int[] ghostCols = new int[MAX_GHOST_CELLS];
+    private int[] ghostCodes = new int[MAX_GHOST_CELLS];
+    private int ghostCellCount;
+    private int[] nextGhostRows = new int[MAX_GHOST_CELLS];
+    private int[] nextGhostCols = new int[MAX_GHOST_CELLS];
+    private int[] nextGhostCodes = new int[MAX_GHOST_CELLS];
+    private int nextGhostCellCount;
+
+    private int lastUpdateCount;
+    private long totalUpdateCount;
 
     /**
      * Initializes the board display matrix.
-     * 
-     * @param boardMatrix The game board matrix
-     * @param gamePanel   The GridPane to render on
+     *
+     * @param board     The game board
+     * @param gamePanel The GridPane to render on
      */
-    public void initialize(int[][] boardMatrix, GridPane gamePanel) {
-        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
+    public void initialize(BoardView board, GridPane gamePanel) {
+        int rows = board.getRowCount();
+        int columns = board.getColumnCount();
+        displayMatrix = new Rectangle[rows][columns];
+        renderedCells = new int[rows][columns];
 
-        for (int i = BOARD_ROW_OFFSET; i < boardMatrix.length; i++) {
-            for (int j = 0; j < boardMatrix[i].length; j++) {
+        for (int i = BOARD_ROW_OFFSET; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
                 rectangle.setFill(Color.TRANSPARENT);
                 displayMatrix[i][j] = rectangle;
                 gamePanel.add(rectangle, j, i - BOARD_ROW_OFFSET);
             }
+            Arrays.fill(renderedCells[i], UNRENDERED);
         }
+        lastBoard = null;
+        ghostCellCount = 0;
     }
 
     /**
-     * Refreshes the board display with current game state.
-     * 
-     * @param board The current board matrix
+     * Refreshes the board display with current game state, without a ghost.
+     *
+     * @param board The current board
      */
-    public void refresh(int[][] board) {
-        for (int i = BOARD_ROW_OFFSET; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
+    public void refresh(BoardView board) {
+        refresh(board, null, 0, 0);
+    }
+
+    /**
+     * Refreshes the board display with current game state and a ghost preview.
+     * The full board is only diffed when its version changed since the last
+     * refresh, otherwise just the old and new ghost footprints are updated.
+     *
+     * @param board      The current board
+     * @param ghostShape The shape to draw as a ghost, or null for no ghost
+     * @param ghostX     The x-coordinate of the ghost
+     * @param ghostY     The y-coordinate of the ghost
+     */
+    public void refresh(BoardView board, BrickShape ghostShape, int ghostX, int ghostY) {
+        lastUpdateCount = 0;
+        collectGhostCells(board, ghostShape, ghostX, ghostY);
+
+        if (board != lastBoard || board.getVersion() != lastVersion) {
+            for (int i = BOARD_ROW_OFFSET; i < board.getRowCount(); i++) {
+                for (int j = 0; j < board.getColumnCount(); j++) {
+                    paint(i, j, board.cell(j, i));
+                }
             }
+            lastBoard = board;
+            lastVersion = board.getVersion();
+        } else {
+            // Restore cells the old ghost covered
+            for (int k = 0; k < ghostCellCount; k++) {
+                paint(ghostRows[k], ghostCols[k], board.cell(ghostCols[k], ghostRows[k]));
+            }
+        }
+
+        for (int k = 0; k < nextGhostCellCount; k++) {
+            paint(nextGhostRows[k], nextGhostCols[k], nextGhostCodes[k]);
         }
+        swapGhostBuffers();
+        totalUpdateCount += lastUpdateCount;
     }
 
     /**
-     * Gets the display matrix for ghost rendering.
-     * 
-     * @return The rectangle matrix
+     * Gets the number of rectangles updated by the last refresh.
+     *
+     * @return The node update count of the last frame
      */
-    public Rectangle[][] getDisplayMatrix() {
-        return displayMatrix;
+    public int getLastUpdateCount() {
+        return lastUpdateCount;
     }
 
-    private void setRectangleData(int colorIndex, Rectangle rectangle) {
-        rectangle.setFill(getFillColor(colorIndex));
+    /**
+     * Gets the number of rectangles updated since the renderer was created.
+     *
+     * @return The total node update count
+     */
+    public long getTotalUpdateCount() {
+        return totalUpdateCount;
+    }
+
+    // Works out which cells the new ghost covers; ghosts never cover locked cells.
+    private void collectGhostCells(BoardView board, BrickShape ghostShape, int ghostX, int ghostY) {
+        nextGhostCellCount = 0;
+        if (ghostShape == null) {
+            return;
+        }
+        int code = ghostShape.getBrickId() + GHOST_FLAG;
+        for (int k = 0; k < ghostShape.getCellCount(); k++) {
+            int boardY = ghostY + ghostShape.getCellY(k);
+            int boardX = ghostX + ghostShape.getCellX(k);
+            if (isValidGhostPosition(board, boardX, boardY)) {
+                nextGhostRows[nextGhostCellCount] = boardY;
+                nextGhostCols[nextGhostCellCount] = boardX;
+                nextGhostCodes[nextGhostCellCount] = code;
+                nextGhostCellCount++;
+            }
+        }
+    }
+
+    private void swapGhostBuffers() {
+        int[] rows = ghostRows;
+        int[] cols = ghostCols;
+        int[] codes = ghostCodes;
+        ghostRows = nextGhostRows;
+        ghostCols = nextGhostCols;
+        ghostCodes = nextGhostCodes;
+        ghostCellCount = nextGhostCellCount;
+        nextGhostRows = rows;
+        nextGhostCols = cols;
+        nextGhostCodes = codes;
+    }
+
+    // Cells under the new ghost keep their ghost code while the board is diffed.
+    private int targetCode(int row, int col, int boardCode) {
+        for (int k = 0; k < nextGhostCellCount; k++) {
+            if (nextGhostRows[k] == row && nextGhostCols[k] == col) {
+                return nextGhostCodes[k];
+            }
+        }
+        return boardCode;
+    }
+
+    private void paint(int row, int col, int boardCode) {
+        int code = targetCode(row, col, boardCode);
+        if (renderedCells[row][col] == code) {
+            return;
+        }
+        renderedCells[row][col] = code;
+        setRectangleData(code, displayMatrix[row][col]);
+        lastUpdateCount++;
+    }
+
+    private boolean isValidGhostPosition(BoardView board, int x, int y) {
+        return y >= BOARD_ROW_OFFSET && y < board.getRowCount()
+                && x >= 0 && x < board.getColumnCount()
+                && board.cell(x, y) == 0;
+    }
+
+    private void setRectangleData(int code, Rectangle rectangle) {
+        rectangle.setFill(getFillColor(code));
         rectangle.setArcHeight(9);
         rectangle.setArcWidth(9);
     }
 
-    private Paint getFillColor(int colorIndex) {
-        return (colorIndex >= 0 && colorIndex < BRICK_COLORS.length)
-                ? BRICK_COLORS[colorIndex]
+    private Paint getFillColor(int code) {
+        if (code >= GHOST_FLAG) {
+            int colorIndex = code - GHOST_FLAG;
+            return colorIndex < GHOST_COLORS.length ? GHOST_COLORS[colorIndex] : Color.WHITE;
+        }
+        return (code >= 0 && code < BRICK_COLORS.length)
+                ? BRICK_COLORS[code]
                 : Color.WHITE;
     }
+
+    private static Color[] createGhostColors() {
+        Color[] ghostColors = new Color[BRICK_COLORS.length];
+        for (int i = 0; i < BRICK_COLORS.length; i++) {
+            Color baseColor = BRICK_COLORS[i];
+            ghostColors[i] = Color.color(
+                    baseColor.getRed(),
+                    baseColor.getGreen(),
+                    baseColor.getBlue(),
+                    GameConfig.GHOST_OPACITY);
+        }
+        return ghostColors;
+    }
 }
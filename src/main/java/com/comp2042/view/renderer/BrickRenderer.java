@@ -1,6 +1,8 @@
 package com.comp2042.view.renderer;
 
 import com.comp2042.config.GameConfig;
+import com.comp2042.model.board.BoardView;
+import com.comp2042.model.brick.BrickShape;
 import com.comp2042.model.data.ViewData;
 
 import javafx.scene.layout.GridPane;
@@ -28,6 +30,10 @@ public class BrickRenderer {
     private GridPane gamePanel;
     private ViewData currentViewData;
     private BoardRenderer boardRenderer;
+    // What the rectangles show, so unchanged view data is not redrawn.
+    private ViewData renderedViewData;
+    private long renderedVersion;
+    private BrickShape renderedShape;
 
     /**
      * Initializes the brick renderer.
@@ -44,30 +50,46 @@ public class BrickRenderer {
         this.boardRenderer = boardRenderer;
         this.currentViewData = brick;
 
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
+        BrickShape shape = brick.getBrickShape();
+        rectangles = new Rectangle[shape.getRowCount()][shape.getColumnCount()];
+        for (int i = 0; i < shape.getRowCount(); i++) {
+            for (int j = 0; j < shape.getColumnCount(); j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(getFillColor(brick.getBrickData()[i][j]));
+                setRectangleData(shape.getCell(i, j), rectangle);
                 rectangles[i][j] = rectangle;
                 brickPanel.add(rectangle, j, i);
             }
         }
         calculateLayout(brick);
+        renderedViewData = brick;
+        renderedVersion = brick.getVersion();
+        renderedShape = shape;
     }
 
     /**
      * Refreshes the brick display.
+     * Does nothing if the view data has not changed since the last refresh,
+     * and only repaints the cells when the shape changed.
      * 
      * @param brick Updated brick data
      */
     public void refresh(ViewData brick) {
         currentViewData = brick;
+        if (brick == renderedViewData && brick.getVersion() == renderedVersion) {
+            return;
+        }
+        renderedViewData = brick;
+        renderedVersion = brick.getVersion();
         calculateLayout(brick);
 
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                setRectangleData(brick.getBrickData()[i][j], rectangles[i][j]);
+        BrickShape shape = brick.getBrickShape();
+        if (shape == renderedShape) {
+            return;
+        }
+        renderedShape = shape;
+        for (int i = 0; i < shape.getRowCount(); i++) {
+            for (int j = 0; j < shape.getColumnCount(); j++) {
+                setRectangleData(shape.getCell(i, j), rectangles[i][j]);
             }
         }
     }
@@ -76,43 +98,26 @@ public class BrickRenderer {
      * Refreshes brick and renders ghost preview.
      * 
      * @param brick Updated brick data
-     * @param board Current board matrix
+     * @param board Current board
      */
-    public void refreshWithGhost(ViewData brick, int[][] board) {
+    public void refreshWithGhost(ViewData brick, BoardView board) {
         refresh(brick);
         renderGhost(brick, board);
     }
 
     /**
-     * Renders the ghost preview at landing position.
+     * Renders the board together with the ghost preview at the landing
+     * position. The board renderer only updates the cells that changed,
+     * including those the previous ghost covered.
      * 
      * @param brick Brick data
-     * @param board Current board matrix
+     * @param board Current board
      */
-    public void renderGhost(ViewData brick, int[][] board) {
-        int ghostY = brick.getGhostYPosition();
-        int ghostX = brick.getxPosition();
-        int currentY = brick.getyPosition();
-        int[][] shape = brick.getBrickData();
-        Rectangle[][] displayMatrix = boardRenderer.getDisplayMatrix();
-
-        if (ghostY > currentY) {
-            for (int i = 0; i < shape.length; i++) {
-                for (int j = 0; j < shape[i].length; j++) {
-                    if (shape[i][j] > 0) {
-                        int boardY = ghostY + i;
-                        int boardX = ghostX + j;
-
-                        if (isValidGhostPosition(board, boardX, boardY)) {
-                            Rectangle rect = displayMatrix[boardY][boardX];
-                            Color ghostColor = createGhostColor(BRICK_COLORS[shape[i][j]]);
-                            rect.setFill(ghostColor);
-                            rect.setArcHeight(9);
-                            rect.setArcWidth(9);
-                        }
-                    }
-                }
-            }
+    public void renderGhost(ViewData brick, BoardView board) {
+        if (brick.getGhostYPosition() > brick.getyPosition()) {
+            boardRenderer.refresh(board, brick.getBrickShape(), brick.getxPosition(), brick.getGhostYPosition());
+        } else {
+            boardRenderer.refresh(board);
         }
     }
 
@@ -133,20 +138,6 @@ public class BrickRenderer {
                 + brick.getyPosition() * BRICK_SIZE);
     }
 
-    private boolean isValidGhostPosition(int[][] board, int x, int y) {
-        return y >= BOARD_ROW_OFFSET && y < board.length
-                && x >= 0 && x < board[0].length
-                && board[y][x] == 0;
-    }
-
-    private Color createGhostColor(Color baseColor) {
-        return Color.color(
-                baseColor.getRed(),
-                baseColor.getGreen(),
-                baseColor.getBlue(),
-                GameConfig.GHOST_OPACITY);
-    }
-
     private void setRectangleData(int colorIndex, Rectangle rectangle) {
         rectangle.setFill(getFillColor(colorIndex));
         rectangle.setArcHeight(9);
@@ -0,0 +1,227 @@
+package com.comp2042.view.renderer;
+
+import com.comp2042.config.GameConfig;
+import com.comp2042.model.board.BoardView;
+import com.comp2042.model.brick.BrickShape;
+import com.comp2042.model.data.ViewData;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+
+/**
+ * Playfield renderer that draws the board, the falling brick and its ghost
+ * onto a single Canvas. Cell sprites are pre-rendered once per colour, and
+ * only the cells whose content changed since the last frame are redrawn, so
+ * the scene graph holds one node regardless of the board size.
+ */
+public class CanvasPlayfieldRenderer implements PlayfieldRenderer {
+    private static final int BRICK_SIZE = GameConfig.BRICK_SIZE;
+    private static final int BOARD_ROW_OFFSET = GameConfig.BOARD_ROW_OFFSET;
+
+    // Added to a colour index to select the ghost sprite of that colour.
+    private static final int GHOST_FLAG = 1 << 8;
+    // Marks a cell that has never been drawn.
+    private static final int UNRENDERED = -1;
+
+    private static final Color[] BRICK_COLORS = {
+            Color.TRANSPARENT, Color.AQUA, Color.BLUEVIOLET,
+            Color.DARKGREEN, Color.YELLOW, Color.RED,
+            Color.BEIGE, Color.BURLYWOOD
+    };
+
+    private Canvas canvas;
+    private GraphicsContext graphics;
+    private Image[] sprites;
+    private Image[] ghostSprites;
+    private double cellPitchX;
+    private double cellPitchY;
+
+    private int[][] frame;
+    private int[][] renderedCells;
+    // Locked cells as of baseVersion; only re-read when the board changes.
+    private int[][] base;
+    private BoardView lastBoard;
+    private BoardView baseBoard;
+    private long baseVersion;
+    private ViewData currentViewData;
+    // The brick state the frame was last composed from.
+    private ViewData frameViewData;
+    private long frameViewVersion;
+    private int lastUpdateCount;
+
+    /**
+     * {@inheritDoc}
+     * Adds the canvas to the game panel and hides the separate brick panel.
+     */
+    @Override
+    public void initialize(BoardView board, ViewData brick, GridPane gamePanel, GridPane brickPanel) {
+        int rows = board.getRowCount();
+        int columns = board.getColumnCount();
+        cellPitchX = BRICK_SIZE + gamePanel.getHgap();
+        cellPitchY = BRICK_SIZE + gamePanel.getVgap();
+
+        canvas = new Canvas(columns * cellPitchX - gamePanel.getHgap(),
+                (rows - BOARD_ROW_OFFSET) * cellPitchY - gamePanel.getVgap());
+        graphics = canvas.getGraphicsContext2D();
+        gamePanel.add(canvas, 0, 0);
+        brickPanel.setVisible(false);
+
+        sprites = new Image[BRICK_COLORS.length];
+        ghostSprites = new Image[BRICK_COLORS.length];
+        for (int i = 1; i < BRICK_COLORS.length; i++) {
+            sprites[i] = createSprite(BRICK_COLORS[i]);
+            ghostSprites[i] = createSprite(createGhostColor(BRICK_COLORS[i]));
+        }
+
+        frame = new int[rows][columns];
+        base = new int[rows][columns];
+        baseBoard = null;
+        frameViewData = null;
+        renderedCells = new int[rows][columns];
+        for (int[] row : renderedCells) {
+            Arrays.fill(row, UNRENDERED);
+        }
+        lastBoard = board;
+        currentViewData = brick;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void refresh(ViewData brick, BoardView board) {
+        currentViewData = brick;
+        if (board != null) {
+            lastBoard = board;
+        }
+        draw();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The canvas always draws the brick together with the board.
+     */
+    @Override
+    public void refreshBackground(ViewData brick, BoardView board) {
+        if (brick != null) {
+            currentViewData = brick;
+        }
+        lastBoard = board;
+        draw();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ViewData getCurrentViewData() {
+        return currentViewData;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLastUpdateCount() {
+        return lastUpdateCount;
+    }
+
+    // Composes board, ghost and brick into the frame, then redraws changed cells.
+    private void draw() {
+        boolean boardChanged = lastBoard != baseBoard || lastBoard.getVersion() != baseVersion;
+        boolean brickChanged = currentViewData != frameViewData
+                || (currentViewData != null && currentViewData.getVersion() != frameViewVersion);
+        if (!boardChanged && !brickChanged) {
+            lastUpdateCount = 0;
+            return;
+        }
+        frameViewData = currentViewData;
+        frameViewVersion = currentViewData != null ? currentViewData.getVersion() : 0;
+
+        if (boardChanged) {
+            for (int i = 0; i < base.length; i++) {
+                for (int j = 0; j < base[i].length; j++) {
+                    base[i][j] = lastBoard.cell(j, i);
+                }
+            }
+            baseBoard = lastBoard;
+            baseVersion = lastBoard.getVersion();
+        }
+        for (int i = 0; i < frame.length; i++) {
+            System.arraycopy(base[i], 0, frame[i], 0, frame[i].length);
+        }
+        if (currentViewData != null) {
+            BrickShape shape = currentViewData.getBrickShape();
+            int x = currentViewData.getxPosition();
+            if (currentViewData.getGhostYPosition() > currentViewData.getyPosition()) {
+                stamp(shape, x, currentViewData.getGhostYPosition(), GHOST_FLAG);
+            }
+            stamp(shape, x, currentViewData.getyPosition(), 0);
+        }
+
+        lastUpdateCount = 0;
+        for (int i = BOARD_ROW_OFFSET; i < frame.length; i++) {
+            for (int j = 0; j < frame[i].length; j++) {
+                if (renderedCells[i][j] != frame[i][j]) {
+                    drawCell(i, j, frame[i][j]);
+                    renderedCells[i][j] = frame[i][j];
+                    lastUpdateCount++;
+                }
+            }
+        }
+    }
+
+    // Ghost cells only go on empty board cells; brick cells go on top of anything.
+    private void stamp(BrickShape shape, int x, int y, int flag) {
+        for (int k = 0; k < shape.getCellCount(); k++) {
+            int row = y + shape.getCellY(k);
+            int col = x + shape.getCellX(k);
+            if (row < 0 || row >= frame.length || col < 0 || col >= frame[row].length) {
+                continue;
+            }
+            if (flag == 0 || base[row][col] == 0) {
+                frame[row][col] = shape.getBrickId() + flag;
+            }
+        }
+    }
+
+    private void drawCell(int row, int col, int code) {
+        double x = col * cellPitchX;
+        double y = (row - BOARD_ROW_OFFSET) * cellPitchY;
+        graphics.clearRect(x, y, BRICK_SIZE, BRICK_SIZE);
+        Image sprite = getSprite(code);
+        if (sprite != null) {
+            graphics.drawImage(sprite, x, y);
+        }
+    }
+
+    private Image getSprite(int code) {
+        Image[] set = code >= GHOST_FLAG ? ghostSprites : sprites;
+        int colorIndex = code >= GHOST_FLAG ? code - GHOST_FLAG : code;
+        return (colorIndex > 0 && colorIndex < set.length) ? set[colorIndex] : null;
+    }
+
+    private Image createSprite(Color color) {
+        Canvas scratch = new Canvas(BRICK_SIZE, BRICK_SIZE);
+        GraphicsContext scratchGraphics = scratch.getGraphicsContext2D();
+        scratchGraphics.setFill(color);
+        scratchGraphics.fillRoundRect(0, 0, BRICK_SIZE, BRICK_SIZE, 9, 9);
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return scratch.snapshot(parameters, null);
+    }
+
+    private Color createGhostColor(Color baseColor) {
+        return Color.color(
+                baseColor.getRed(),
+                baseColor.getGreen(),
+                baseColor.getBlue(),
+                GameConfig.GHOST_OPACITY);
+    }
+}
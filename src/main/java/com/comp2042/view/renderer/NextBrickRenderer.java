@@ -1,6 +1,7 @@
 package com.comp2042.view.renderer;
 
 import com.comp2042.config.GameConfig;
+import com.comp2042.model.brick.BrickShape;
 
 import javafx.scene.layout.GridPane;
 import javafx.scene.paint.Color;
@@ -20,15 +21,16 @@ public class NextBrickRenderer {
     };
 
     private Rectangle[][] rectangles;
+    private BrickShape renderedShape;
 
     /**
      * Initializes the next brick preview renderer.
      * Creates a 4x4 grid of rectangles for displaying the next piece.
      * 
-     * @param nextBrick      Initial next brick data
+     * @param nextBrick      Initial next brick shape
      * @param nextBrickPanel The GridPane to render into
      */
-    public void initialize(int[][] nextBrick, GridPane nextBrickPanel) {
+    public void initialize(BrickShape nextBrick, GridPane nextBrickPanel) {
         // Create a 4x4 grid for preview (max tetromino size)
         rectangles = new Rectangle[4][4];
         for (int i = 0; i < 4; i++) {
@@ -40,15 +42,22 @@ public class NextBrickRenderer {
             }
         }
 
+        renderedShape = null;
         refresh(nextBrick);
     }
 
     /**
      * Refreshes the next brick preview display.
+     * Does nothing if the shape is already displayed.
      * 
-     * @param nextBrick The next brick data to display
+     * @param nextBrick The next brick shape to display
      */
-    public void refresh(int[][] nextBrick) {
+    public void refresh(BrickShape nextBrick) {
+        if (nextBrick == renderedShape && nextBrick != null) {
+            return;
+        }
+        renderedShape = nextBrick;
+
         // Clear all cells first
         for (int i = 0; i < 4; i++) {
             for (int j = 0; j < 4; j++) {
@@ -60,11 +69,11 @@ public class NextBrickRenderer {
 
         // Draw the next brick
         if (nextBrick != null) {
-            for (int i = 0; i < nextBrick.length && i < 4; i++) {
-                for (int j = 0; j < nextBrick[i].length && j < 4; j++) {
-                    if (nextBrick[i][j] > 0) {
-                        setRectangleData(nextBrick[i][j], rectangles[i][j]);
-                    }
+            for (int k = 0; k < nextBrick.getCellCount(); k++) {
+                int i = nextBrick.getCellY(k);
+                int j = nextBrick.getCellX(k);
+                if (i < 4 && j < 4) {
+                    setRectangleData(nextBrick.getBrickId(), rectangles[i][j]);
                 }
             }
         }
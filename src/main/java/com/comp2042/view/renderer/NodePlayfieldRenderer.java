@@ -0,0 +1,66 @@
+package com.comp2042.view.renderer;
+
+import com.comp2042.model.board.BoardView;
+import com.comp2042.model.data.ViewData;
+
+import javafx.scene.layout.GridPane;
+
+/**
+ * Playfield renderer that uses one Rectangle node per cell.
+ * The board and ghost are drawn by a {@link BoardRenderer} and the falling
+ * brick by a {@link BrickRenderer} on its own panel.
+ */
+public class NodePlayfieldRenderer implements PlayfieldRenderer {
+
+    private final BoardRenderer boardRenderer = new BoardRenderer();
+    private final BrickRenderer brickRenderer = new BrickRenderer();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void initialize(BoardView board, ViewData brick, GridPane gamePanel, GridPane brickPanel) {
+        boardRenderer.initialize(board, gamePanel);
+        brickRenderer.initialize(brick, brickPanel, gamePanel, boardRenderer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void refresh(ViewData brick, BoardView board) {
+        if (board != null) {
+            brickRenderer.refreshWithGhost(brick, board);
+        } else {
+            brickRenderer.refresh(brick);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void refreshBackground(ViewData brick, BoardView board) {
+        if (brick != null) {
+            brickRenderer.renderGhost(brick, board);
+        } else {
+            boardRenderer.refresh(board);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ViewData getCurrentViewData() {
+        return brickRenderer.getCurrentViewData();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLastUpdateCount() {
+        return boardRenderer.getLastUpdateCount();
+    }
+}
@@ -0,0 +1,54 @@
+package com.comp2042.view.renderer;
+
+import com.comp2042.model.board.BoardView;
+import com.comp2042.model.data.ViewData;
+
+import javafx.scene.layout.GridPane;
+
+/**
+ * Interface for the renderers that draw the playfield: the locked board,
+ * the falling brick and its ghost preview.
+ */
+public interface PlayfieldRenderer {
+
+    /**
+     * Creates the display for the playfield.
+     *
+     * @param board      The board to draw
+     * @param brick      The initial brick data
+     * @param gamePanel  The main game panel
+     * @param brickPanel The panel used for the falling brick
+     */
+    void initialize(BoardView board, ViewData brick, GridPane gamePanel, GridPane brickPanel);
+
+    /**
+     * Redraws the falling brick, its ghost and any changed board cells.
+     *
+     * @param brick Updated brick data
+     * @param board Current board, or null if not yet known
+     */
+    void refresh(ViewData brick, BoardView board);
+
+    /**
+     * Redraws the board after it changed, along with the ghost of the given
+     * brick.
+     *
+     * @param brick Current brick data, or null if no brick has been drawn yet
+     * @param board Current board
+     */
+    void refreshBackground(ViewData brick, BoardView board);
+
+    /**
+     * Gets the brick data drawn by the last refresh.
+     *
+     * @return Current ViewData
+     */
+    ViewData getCurrentViewData();
+
+    /**
+     * Gets the number of cells redrawn by the last refresh.
+     *
+     * @return The cell update count of the last frame
+     */
+    int getLastUpdateCount();
+}
@@ -0,0 +1,147 @@
+package com.comp2042.model.board;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.comp2042.ai.Heuristic;
+import com.comp2042.ai.Placement;
+import com.comp2042.ai.PlacementSearch;
+import com.comp2042.ai.SearchBoard;
+import com.comp2042.config.GameConfig;
+import com.comp2042.model.brick.SeededBrickGenerator;
+import com.comp2042.model.data.ViewData;
+import com.comp2042.model.score.ClearRow;
+import com.comp2042.model.settings.RandomizerMode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * Plays {@link SimpleBoard} and {@link BitboardBoard} side by side on the
+ * same bricks and input, and checks that they agree after every step.
+ */
+class BitboardBoardTest {
+
+    private static final int SPAWN_ROW = 2;
+    private static final int GAMES = 20;
+    private static final int STEPS_PER_GAME = 3000;
+
+    private final PlacementSearch search = new PlacementSearch(new Heuristic(), false);
+
+    private SimpleBoard simple;
+    private BitboardBoard bitboard;
+    private int linesCleared;
+
+    @Test
+    void matchesSimpleBoard() {
+        for (long seed = 1; seed <= GAMES; seed++) {
+            RandomizerMode mode = seed % 2 == 0 ? RandomizerMode.SEVEN_BAG : RandomizerMode.UNIFORM;
+            simple = new SimpleBoard(GameConfig.BOARD_WIDTH, GameConfig.BOARD_HEIGHT,
+                    new SeededBrickGenerator(seed, mode, GameConfig.BRICK_PREVIEW_COUNT), () -> SPAWN_ROW);
+            bitboard = new BitboardBoard(GameConfig.BOARD_WIDTH, GameConfig.BOARD_HEIGHT,
+                    new SeededBrickGenerator(seed, mode, GameConfig.BRICK_PREVIEW_COUNT), () -> SPAWN_ROW);
+            simple.newGame();
+            bitboard.newGame();
+            assertSameState();
+
+            Random random = new Random(seed);
+            for (int step = 0; step < STEPS_PER_GAME; step++) {
+                switch (random.nextInt(6)) {
+                    case 0 -> assertEquals(simple.moveBrickLeft(), bitboard.moveBrickLeft());
+                    case 1 -> assertEquals(simple.moveBrickRight(), bitboard.moveBrickRight());
+                    case 2 -> assertEquals(simple.rotateLeftBrick(), bitboard.rotateLeftBrick());
+                    case 3 -> moveDown();
+                    case 4 -> hardDrop();
+                    default -> placeBest();
+                }
+                assertSameState();
+            }
+        }
+        // The search keeps the stack low, so rows get cleared
+        assertTrue(linesCleared > 0, "no rows were cleared");
+    }
+
+    private void moveDown() {
+        boolean moved = simple.moveBrickDown();
+        assertEquals(moved, bitboard.moveBrickDown());
+        if (!moved) {
+            simple.mergeBrickToBackground();
+            bitboard.mergeBrickToBackground();
+            settle();
+        }
+    }
+
+    private void hardDrop() {
+        assertEquals(simple.hardDrop(), bitboard.hardDrop());
+        settle();
+    }
+
+    // Steers both boards to the placement the AI picks on the simple board.
+    private void placeBest() {
+        ViewData view = simple.getViewData();
+        int x = view.getxPosition();
+        Placement best = search.findBest(SearchBoard.of(simple.getBoardView()), view.getBrickShape(), x, view.getyPosition(),
+                null, 0, 0);
+        if (best == null) {
+            hardDrop();
+            return;
+        }
+        for (int r = 0; r < best.getRotations(); r++) {
+            assertEquals(simple.rotateLeftBrick(), bitboard.rotateLeftBrick());
+        }
+        for (; x > best.getX(); x--) {
+            assertEquals(simple.moveBrickLeft(), bitboard.moveBrickLeft());
+        }
+        for (; x < best.getX(); x++) {
+            assertEquals(simple.moveBrickRight(), bitboard.moveBrickRight());
+        }
+        hardDrop();
+    }
+
+    // Clears rows and spawns the next brick, starting over when the board is full.
+    private void settle() {
+        ClearRow expected = simple.clearRows();
+        ClearRow actual = bitboard.clearRows();
+        assertEquals(expected.getLinesRemoved(), actual.getLinesRemoved());
+        assertEquals(expected.getScoreBonus(), actual.getScoreBonus());
+        for (int i = 0; i < expected.getLinesRemoved(); i++) {
+            assertEquals(expected.getClearedRow(i), actual.getClearedRow(i));
+        }
+        linesCleared += expected.getLinesRemoved();
+
+        boolean gameOver = simple.createNewBrick();
+        assertEquals(gameOver, bitboard.createNewBrick());
+        if (gameOver) {
+            simple.newGame();
+            bitboard.newGame();
+        }
+    }
+
+    private void assertSameState() {
+        assertArrayEquals(simple.getBoardMatrix(), bitboard.getBoardMatrix());
+        assertEquals(simple.getHash(), bitboard.getHash());
+        assertEquals(simple.canMoveDown(), bitboard.canMoveDown());
+
+        ViewData expected = simple.getViewData();
+        int x = expected.getxPosition();
+        int y = expected.getyPosition();
+        int ghostY = expected.getGhostYPosition();
+        ViewData actual = bitboard.getViewData();
+        assertEquals(x, actual.getxPosition());
+        assertEquals(y, actual.getyPosition());
+        assertEquals(ghostY, actual.getGhostYPosition());
+
+        SurfaceProfile expectedSurface = simple.getSurfaceProfile();
+        SurfaceProfile actualSurface = bitboard.getSurfaceProfile();
+        assertEquals(expectedSurface.getMaxHeight(), actualSurface.getMaxHeight());
+        assertEquals(expectedSurface.getAggregateHeight(), actualSurface.getAggregateHeight());
+        assertEquals(expectedSurface.getHoleCount(), actualSurface.getHoleCount());
+        assertEquals(expectedSurface.getBumpiness(), actualSurface.getBumpiness());
+        for (int col = 0; col < expectedSurface.getColumnCount(); col++) {
+            assertEquals(expectedSurface.getHeight(col), actualSurface.getHeight(col));
+            assertEquals(expectedSurface.getWellDepth(col), actualSurface.getWellDepth(col));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.comp2042.model.board;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import com.comp2042.config.GameConfig;
+import com.comp2042.model.brick.BrickShape;
+import com.comp2042.model.brick.RandomBrickGenerator;
+import com.comp2042.model.brick.ShapeRegistry;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that snapshots and the boards they share rows with never see each
+ * other's writes, and that different snapshots never share a version.
+ */
+class BoardSnapshotTest {
+
+    private static final long SEED = 7;
+    private static final int SPAWN_ROW = 2;
+    private static final BrickShape VERTICAL_I = ShapeRegistry.getShape(ShapeRegistry.I_BRICK, 1);
+    private static final BrickShape O = ShapeRegistry.getShape(ShapeRegistry.O_BRICK, 0);
+
+    // Four rows with a gap in column 2, which a vertical I brick completes.
+    private static final int[][] WELL = {
+            { 0, 0, 0, 0 },
+            { 0, 5, 0, 0 },
+            { 3, 3, 0, 3 },
+            { 3, 3, 0, 3 },
+            { 3, 3, 0, 3 },
+            { 3, 3, 0, 3 }
+    };
+
+    @Test
+    void placeLeavesParentUnchanged() {
+        BoardSnapshot parent = BoardSnapshot.of(WELL);
+        BoardSnapshot child = parent.place(O, 1, -1);
+
+        assertArrayEquals(WELL, parent.toMatrix());
+        assertEquals(O.getBrickId(), child.cell(2, 0));
+        assertEquals(O.getBrickId(), child.cell(3, 0));
+        assertEquals(0, child.getLinesCleared());
+    }
+
+    @Test
+    void clearRowsLeavesParentUnchanged() {
+        BoardSnapshot parent = BoardSnapshot.of(WELL);
+        BoardSnapshot child = parent.place(VERTICAL_I, 1, 2);
+
+        assertArrayEquals(WELL, parent.toMatrix());
+        assertEquals(4, child.getLinesCleared());
+        int[][] expected = new int[6][4];
+        expected[5][1] = 5;
+        assertArrayEquals(expected, child.toMatrix());
+    }
+
+    @Test
+    void sharedEmptyRowsAreNotWrittenThrough() {
+        // The clear fills rows 0 to 4 with one shared empty row
+        BoardSnapshot cleared = BoardSnapshot.of(WELL).place(VERTICAL_I, 1, 2);
+        BoardSnapshot placed = cleared.place(O, 1, 2);
+
+        int[][] expected = new int[6][4];
+        expected[5][1] = 5;
+        assertArrayEquals(expected, cleared.toMatrix());
+        expected[3][2] = O.getBrickId();
+        expected[3][3] = O.getBrickId();
+        expected[4][2] = O.getBrickId();
+        expected[4][3] = O.getBrickId();
+        assertArrayEquals(expected, placed.toMatrix());
+    }
+
+    @Test
+    void boardsDoNotShareWritesWithSnapshots() {
+        checkIsolation(new SimpleBoard(GameConfig.BOARD_WIDTH, GameConfig.BOARD_HEIGHT,
+                new RandomBrickGenerator(SEED), () -> SPAWN_ROW));
+        checkIsolation(new BitboardBoard(GameConfig.BOARD_WIDTH, GameConfig.BOARD_HEIGHT,
+                new RandomBrickGenerator(SEED), () -> SPAWN_ROW));
+    }
+
+    @Test
+    void versionsAreUnique() {
+        SimpleBoard board = new SimpleBoard(GameConfig.BOARD_WIDTH, GameConfig.BOARD_HEIGHT,
+                new RandomBrickGenerator(SEED), () -> SPAWN_ROW);
+        board.newGame();
+        BoardSnapshot parent = board.snapshot();
+        assertEquals(board.getBoardView().getVersion(), parent.getVersion());
+
+        BoardSnapshot first = parent.place(O, 0, GameConfig.BOARD_WIDTH - 3);
+        BoardSnapshot second = parent.place(O, 4, GameConfig.BOARD_WIDTH - 3);
+        assertNotEquals(parent.getVersion(), first.getVersion());
+        assertNotEquals(parent.getVersion(), second.getVersion());
+        assertNotEquals(first.getVersion(), second.getVersion());
+
+        board.hardDrop();
+        board.mergeBrickToBackground();
+        long next = board.getBoardView().getVersion();
+        assertNotEquals(parent.getVersion(), next);
+        assertNotEquals(first.getVersion(), next);
+        assertNotEquals(second.getVersion(), next);
+    }
+
+    // Locks bricks on both sides of a snapshot and checks neither sees the other's cells.
+    private static void checkIsolation(Board board) {
+        board.newGame();
+        board.hardDrop();
+        board.mergeBrickToBackground();
+        board.createNewBrick();
+        int[][] shared = board.getBoardMatrix();
+        BoardSnapshot snapshot = board.snapshot();
+
+        BoardSnapshot placed = snapshot.place(O, 0, GameConfig.BOARD_WIDTH - 3);
+        int[][] placedCells = placed.toMatrix();
+        assertArrayEquals(shared, board.getBoardMatrix());
+        assertArrayEquals(shared, snapshot.toMatrix());
+        assertEquals(O.getBrickId(), placed.cell(1, GameConfig.BOARD_WIDTH - 2));
+
+        for (int i = 0; i < 3; i++) {
+            board.hardDrop();
+            board.mergeBrickToBackground();
+            board.clearRows();
+            board.createNewBrick();
+        }
+        assertArrayEquals(shared, snapshot.toMatrix());
+        assertArrayEquals(placedCells, placed.toMatrix());
+    }
+}
@@ -0,0 +1,74 @@
+package com.comp2042.model.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.comp2042.config.GameConfig;
+import com.comp2042.model.brick.RandomBrickGenerator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Checks that moving and rotating a brick on a {@link SimpleBoard} allocates
+ * nothing, once the code is warmed up.
+ */
+class SimpleBoardAllocationTest {
+
+    private static final long SEED = 42;
+    private static final int SPAWN_ROW = 2;
+    private static final int WARMUP_BRICKS = 20_000;
+    private static final int MEASURED_BRICKS = 2_000;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private SimpleBoard board;
+
+    @BeforeEach
+    void setUp() {
+        assertTrue(threads.isThreadAllocatedMemorySupported(), "allocation counting is not supported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+        board = new SimpleBoard(GameConfig.BOARD_WIDTH, GameConfig.BOARD_HEIGHT,
+                new RandomBrickGenerator(SEED), () -> SPAWN_ROW);
+        board.newGame();
+    }
+
+    @Test
+    void movementDoesNotAllocate() {
+        long threadId = Thread.currentThread().threadId();
+        for (int i = 0; i < WARMUP_BRICKS; i++) {
+            moveToBottom();
+            nextBrick();
+        }
+
+        long allocated = 0;
+        for (int i = 0; i < MEASURED_BRICKS; i++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            moveToBottom();
+            allocated += threads.getThreadAllocatedBytes(threadId) - before;
+            // Spawning a brick may allocate, so it is left out of the measurement
+            nextBrick();
+        }
+        assertEquals(0, allocated, "bytes allocated by movement");
+    }
+
+    // Wiggles the brick on every row on its way down, without locking it.
+    private void moveToBottom() {
+        do {
+            board.moveBrickLeft();
+            board.rotateLeftBrick();
+            board.moveBrickRight();
+            board.moveBrickRight();
+            board.moveBrickLeft();
+        } while (board.canMoveDown() && board.moveBrickDown());
+        board.moveBrickDown();
+    }
+
+    // Leaves the board empty so every brick gets the full drop.
+    private void nextBrick() {
+        board.createNewBrick();
+    }
+}
@@ -0,0 +1,142 @@
+package com.comp2042.replay;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.comp2042.input.EventType;
+import com.comp2042.model.settings.DifficultyMode;
+import com.comp2042.model.settings.RandomizerMode;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Checks appending to and reading from a replay archive.
+ */
+class ReplayArchiveTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void appendsAcrossSessions() throws IOException {
+        Path file = directory.resolve("games.rpa");
+        try (ReplayArchiveWriter writer = new ReplayArchiveWriter(file)) {
+            for (int game = 0; game < 3; game++) {
+                assertEquals(game, writer.append(replay(game)));
+            }
+        }
+        try (ReplayArchiveWriter writer = new ReplayArchiveWriter(file)) {
+            for (int game = 3; game < 5; game++) {
+                assertEquals(game, writer.append(replay(game)));
+            }
+        }
+
+        try (ReplayArchive archive = ReplayArchive.open(file)) {
+            assertEquals(5, archive.size());
+            for (int game = 0; game < 5; game++) {
+                assertEquals(game, archive.getGameId(game));
+                assertArrayEquals(replay(game).toBytes(), archive.read(game).toBytes());
+            }
+        }
+    }
+
+    @Test
+    void keepsPreviousGamesReadableWhileAppending() throws IOException {
+        Path file = directory.resolve("games.rpa");
+        try (ReplayArchiveWriter writer = new ReplayArchiveWriter(file)) {
+            writer.append(replay(0));
+            writer.append(replay(1));
+        }
+
+        Path crashed = directory.resolve("crashed.rpa");
+        try (ReplayArchiveWriter writer = new ReplayArchiveWriter(file)) {
+            for (int game = 2; game < 40; game++) {
+                writer.append(replay(game));
+            }
+            // A copy taken before close is what a crash would leave on disk
+            Files.copy(file, crashed);
+        }
+
+        try (ReplayArchive archive = ReplayArchive.open(crashed)) {
+            assertEquals(2, archive.size());
+            assertArrayEquals(replay(1).toBytes(), archive.read(1).toBytes());
+        }
+        try (ReplayArchive archive = ReplayArchive.open(file)) {
+            assertEquals(40, archive.size());
+            assertArrayEquals(replay(39).toBytes(), archive.read(39).toBytes());
+        }
+        // The writer also carries on from the committed index alone
+        try (ReplayArchiveWriter writer = new ReplayArchiveWriter(crashed)) {
+            assertEquals(2, writer.append(replay(2)));
+        }
+        try (ReplayArchive archive = ReplayArchive.open(crashed)) {
+            assertEquals(3, archive.size());
+            assertArrayEquals(replay(2).toBytes(), archive.read(2).toBytes());
+        }
+    }
+
+    @Test
+    void staysLinearWithOneAppendPerSession() throws IOException {
+        Path file = directory.resolve("games.rpa");
+        long live = ReplayArchive.HEADER_BYTES + ReplayArchive.TRAILER_BYTES;
+        for (int game = 0; game < 500; game++) {
+            try (ReplayArchiveWriter writer = new ReplayArchiveWriter(file)) {
+                assertEquals(game, writer.append(replay(game % 10)));
+            }
+            live += replay(game % 10).toBytes().length + ReplayArchive.ENTRY_BYTES;
+            assertTrue(Files.size(file) <= 2 * live, "archive of " + live + " bytes takes " + Files.size(file));
+        }
+
+        try (ReplayArchive archive = ReplayArchive.open(file)) {
+            assertEquals(500, archive.size());
+            for (int game = 0; game < 500; game++) {
+                assertEquals(game, archive.getGameId(game));
+                assertArrayEquals(replay(game % 10).toBytes(), archive.read(game).toBytes());
+            }
+        }
+    }
+
+    @Test
+    void rejectsCorruptIndexEntry() throws IOException {
+        Path file = directory.resolve("games.rpa");
+        try (ReplayArchiveWriter writer = new ReplayArchiveWriter(file)) {
+            writer.append(replay(0));
+            writer.append(replay(1));
+        }
+        long indexOffset;
+        try (ReplayArchive archive = ReplayArchive.open(file)) {
+            indexOffset = archive.getOffset(1) + replay(1).toBytes().length;
+        }
+
+        // Point the first entry at the last few bytes of the file
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ByteBuffer offset = ByteBuffer.allocate(Long.BYTES);
+            offset.putLong(channel.size() - Integer.BYTES).flip();
+            channel.write(offset, indexOffset + ReplayArchive.OFFSET);
+        }
+
+        try (ReplayArchive archive = ReplayArchive.open(file)) {
+            assertThrows(IllegalArgumentException.class, () -> archive.read(0));
+            assertArrayEquals(replay(1).toBytes(), archive.read(1).toBytes());
+        }
+    }
+
+    private static Replay replay(int game) {
+        ReplayRecorder recorder = new ReplayRecorder();
+        recorder.start(game, DifficultyMode.NORMAL, RandomizerMode.SEVEN_BAG);
+        for (int i = 0; i <= game; i++) {
+            recorder.record(EventType.LEFT, i * 10L);
+        }
+        return recorder.finish(game * 100, game * 10L + 10);
+    }
+}
@@ -0,0 +1,106 @@
+package com.comp2042.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.comp2042.input.EventType;
+import com.comp2042.model.settings.DifficultyMode;
+import com.comp2042.model.settings.RandomizerMode;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Checks the binary replay format.
+ */
+class ReplayTest {
+
+    private static final int MAGIC = 0x5452504C;
+    private static final byte VERSION = 1;
+
+    @Test
+    void roundTripsThroughBytes() {
+        ReplayRecorder recorder = new ReplayRecorder();
+        recorder.start(1234, DifficultyMode.HARD, RandomizerMode.SEVEN_BAG);
+        recorder.record(EventType.LEFT, 0);
+        recorder.record(EventType.ROTATE, 16);
+        recorder.record(EventType.FAST_DROP, 5000);
+        Replay replay = recorder.finish(850, 6000);
+
+        ByteBuffer buffer = ByteBuffer.wrap(replay.toBytes());
+        Replay read = Replay.read(buffer);
+        assertEquals(0, buffer.remaining());
+        assertEquals(1234, read.getSeed());
+        assertEquals(DifficultyMode.HARD, read.getDifficulty());
+        assertEquals(RandomizerMode.SEVEN_BAG, read.getRandomizer());
+        assertEquals(850, read.getScore());
+        assertEquals(6000, read.getDuration());
+        assertEquals(3, read.getEventCount());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(replay.getEventType(i), read.getEventType(i));
+            assertEquals(replay.getEventTime(i), read.getEventTime(i));
+        }
+    }
+
+    @Test
+    void rejectsNegativeEventCount() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.putInt(MAGIC).put(VERSION).putLong(1);
+        buffer.put(new byte[] { 0, 0, 0, 0 });
+        // Ten-byte varint with every bit set, which decodes to -1
+        for (int i = 0; i < 9; i++) {
+            buffer.put((byte) 0xFF);
+        }
+        buffer.put((byte) 0x01);
+        buffer.flip();
+
+        assertThrows(IllegalArgumentException.class, () -> Replay.read(buffer));
+    }
+
+    @Test
+    void rejectsOutOfRangeDifficulty() {
+        // 2^32 would wrap to the first difficulty if cast to an int
+        assertThrows(IllegalArgumentException.class, () -> Replay.read(header(1L << 32, 0, 0, 0)));
+    }
+
+    @Test
+    void rejectsOutOfRangeRandomizer() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Replay.read(header(0, RandomizerMode.values().length, 0, 0)));
+    }
+
+    @Test
+    void rejectsOverflowingScore() {
+        assertThrows(IllegalArgumentException.class, () -> Replay.read(header(0, 0, 1L << 32 | 850, 0)));
+        assertThrows(IllegalArgumentException.class,
+                () -> Replay.read(header(0, 0, Integer.MAX_VALUE + 1L, 0)));
+        assertEquals(Integer.MAX_VALUE, Replay.read(header(0, 0, Integer.MAX_VALUE, 0)).getScore());
+    }
+
+    @Test
+    void rejectsTruncatedReplay() {
+        ReplayRecorder recorder = new ReplayRecorder();
+        recorder.start(1, DifficultyMode.NORMAL, RandomizerMode.UNIFORM);
+        recorder.record(EventType.DOWN, 50);
+        byte[] bytes = recorder.finish(0, 50).toBytes();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, bytes.length - 1);
+
+        assertThrows(IllegalArgumentException.class, () -> Replay.read(buffer));
+    }
+
+    // Encodes a replay with no events and the given header fields.
+    private static ByteBuffer header(long difficulty, long randomizer, long score, long duration) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteBuffer fixed = ByteBuffer.allocate(Integer.BYTES + 1 + Long.BYTES);
+        fixed.putInt(MAGIC).put(VERSION).putLong(1);
+        out.write(fixed.array(), 0, fixed.capacity());
+        VarInts.write(out, difficulty);
+        VarInts.write(out, randomizer);
+        VarInts.write(out, score);
+        VarInts.write(out, duration);
+        VarInts.write(out, 0);
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+}